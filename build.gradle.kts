@@ -390,6 +390,8 @@ eclipse.classpath.file {
 jmh {
   includes = listOf(".*benchmarks.*")
   threads = 50
+  profilers = listOf("gc")
+  resultFormat = "JSON"
 }
 
 tasks.register("listRuntimeDependencies") {
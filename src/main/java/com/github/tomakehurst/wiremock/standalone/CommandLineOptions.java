@@ -97,14 +97,17 @@ public class CommandLineOptions implements Options {
   private static final String JETTY_IDLE_TIMEOUT = "jetty-idle-timeout";
   private static final String ROOT_DIR = "root-dir";
   private static final String CONTAINER_THREADS = "container-threads";
+  private static final String VIRTUAL_THREADS = "virtual-threads";
   private static final String GLOBAL_RESPONSE_TEMPLATING = "global-response-templating";
   private static final String LOCAL_RESPONSE_TEMPLATING = "local-response-templating";
   private static final String DISABLE_RESPONSE_TEMPLATING = "disable-response-templating";
   public static final String FILENAME_TEMPLATE = "filename-template";
+  private static final String WATCH_MAPPINGS = "watch-mappings";
   private static final String ADMIN_API_BASIC_AUTH = "admin-api-basic-auth";
   private static final String ADMIN_API_REQUIRE_HTTPS = "admin-api-require-https";
   private static final String ASYNCHRONOUS_RESPONSE_ENABLED = "async-response-enabled";
   private static final String ASYNCHRONOUS_RESPONSE_THREADS = "async-response-threads";
+  private static final String ASYNCHRONOUS_RESPONSE_TIMER_TICK = "async-response-timer-tick";
   private static final String USE_CHUNKED_ENCODING = "use-chunked-encoding";
   private static final String MAX_TEMPLATE_CACHE_ENTRIES = "max-template-cache-entries";
   private static final String PERMITTED_SYSTEM_KEYS = "permitted-system-keys";
@@ -160,6 +163,8 @@ public class CommandLineOptions implements Options {
         .withRequiredArg();
     optionParser.accepts(BIND_ADDRESS, "The IP to listen connections").withRequiredArg();
     optionParser.accepts(CONTAINER_THREADS, "The number of container threads").withRequiredArg();
+    optionParser.accepts(
+        VIRTUAL_THREADS, "Handle requests on virtual threads (requires Java 21 or later)");
     optionParser.accepts(TIMEOUT, "The default global timeout.");
     optionParser.accepts(
         DISABLE_OPTIMIZE_XML_FACTORIES_LOADING,
@@ -281,6 +286,8 @@ public class CommandLineOptions implements Options {
     optionParser.accepts(
         GLOBAL_RESPONSE_TEMPLATING, "Preprocess all responses with Handlebars templates");
     optionParser.accepts(FILENAME_TEMPLATE, "Add filename template").withRequiredArg();
+    optionParser.accepts(
+        WATCH_MAPPINGS, "Apply changes to mapping files while running, without a full reload");
     optionParser.accepts(
         LOCAL_RESPONSE_TEMPLATING, "Preprocess selected responses with Handlebars templates");
     optionParser.accepts(
@@ -300,6 +307,11 @@ public class CommandLineOptions implements Options {
         .accepts(ASYNCHRONOUS_RESPONSE_THREADS, "Number of asynchronous response threads")
         .withRequiredArg()
         .defaultsTo("10");
+    optionParser
+        .accepts(
+            ASYNCHRONOUS_RESPONSE_TIMER_TICK,
+            "Resolution in milliseconds of a timer wheel to schedule asynchronous response delays on, instead of a scheduled thread pool")
+        .withRequiredArg();
     optionParser
         .accepts(
             USE_CHUNKED_ENCODING,
@@ -758,6 +770,11 @@ public class CommandLineOptions implements Options {
     return mappingsSource;
   }
 
+  @Override
+  public boolean getWatchMappings() {
+    return optionSet.has(WATCH_MAPPINGS);
+  }
+
   @Override
   public Notifier notifier() {
     return new ConsoleNotifier(verboseLoggingEnabled());
@@ -793,6 +810,11 @@ public class CommandLineOptions implements Options {
     return DEFAULT_CONTAINER_THREADS;
   }
 
+  @Override
+  public boolean getVirtualThreadsEnabled() {
+    return optionSet.has(VIRTUAL_THREADS);
+  }
+
   @Override
   public String toString() {
     Map<String, Object> map = new LinkedHashMap<>();
@@ -888,7 +910,9 @@ public class CommandLineOptions implements Options {
   @Override
   public AsynchronousResponseSettings getAsynchronousResponseSettings() {
     return new AsynchronousResponseSettings(
-        isAsynchronousResponseEnabled(), getAsynchronousResponseThreads());
+        isAsynchronousResponseEnabled(),
+        getAsynchronousResponseThreads(),
+        getAsynchronousResponseTimerTick());
   }
 
   @Override
@@ -1035,6 +1059,12 @@ public class CommandLineOptions implements Options {
     return Integer.parseInt((String) optionSet.valueOf(ASYNCHRONOUS_RESPONSE_THREADS));
   }
 
+  private int getAsynchronousResponseTimerTick() {
+    return optionSet.has(ASYNCHRONOUS_RESPONSE_TIMER_TICK)
+        ? Integer.parseInt((String) optionSet.valueOf(ASYNCHRONOUS_RESPONSE_TIMER_TICK))
+        : 0;
+  }
+
   @Override
   public boolean getDisableConnectionReuse() {
     return optionSet.has(DISABLE_CONNECTION_REUSE)
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.direct.DirectCallHttpServer;
+import com.github.tomakehurst.wiremock.direct.DirectCallHttpServerFactory;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.matching.MockRequest;
+import java.util.Random;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Drives the whole stub serve path, i.e. filters, matching, rendering, templating and journalling,
+ * through a {@link DirectCallHttpServer}, so that results aren't dominated by the network and
+ * container. Run {@link #main} for the full parameter grid with allocation rates from the GC
+ * profiler. Standard JMH options can narrow it down, e.g. {@code -p stubCount=1000 -p
+ * templating=false}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class ServePathBenchmark {
+
+  static final int DISTINCT_REQUESTS = 1024;
+
+  public enum MatcherMix {
+    /** Method and URL only */
+    URL,
+    /** All stubs share a URL and are told apart by a JSONPath match on the body */
+    JSON_BODY,
+    /** A third each of URL only, JSONPath and substring body matches */
+    MIXED
+  }
+
+  enum StubKind {
+    URL,
+    JSON_PATH,
+    SUBSTRING
+  }
+
+  @State(Scope.Benchmark)
+  public static class ServePathState {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int stubCount;
+
+    @Param({"URL", "JSON_BODY", "MIXED"})
+    public MatcherMix matcherMix;
+
+    @Param({"true", "false"})
+    public boolean journal;
+
+    @Param({"false", "true"})
+    public boolean templating;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double unmatchedRatio;
+
+    private WireMockServer wm;
+    private DirectCallHttpServer server;
+    private MockRequest[] requests;
+
+    @Setup
+    public void setup() {
+      DirectCallHttpServerFactory factory = new DirectCallHttpServerFactory();
+      WireMockConfiguration config =
+          wireMockConfig().httpServerFactory(factory).notifier(new QuietNotifier());
+      if (journal) {
+        config.maxRequestJournalEntries(10_000);
+      } else {
+        config.disableRequestJournal();
+      }
+
+      wm = new WireMockServer(config);
+      wm.start();
+      server = factory.getHttpServer();
+
+      for (int i = 0; i < stubCount; i++) {
+        wm.stubFor(mappingFor(i).willReturn(responseFor(i)));
+      }
+
+      // Fixed seed so that every run, and every release being compared, sees the same requests
+      Random random = new Random(42);
+      requests = new MockRequest[DISTINCT_REQUESTS];
+      for (int i = 0; i < DISTINCT_REQUESTS; i++) {
+        requests[i] =
+            random.nextDouble() < unmatchedRatio
+                ? mockRequest().method(GET).url("/unmatched/" + i)
+                : requestFor(random.nextInt(stubCount));
+      }
+    }
+
+    @TearDown
+    public void tearDown() {
+      wm.stop();
+    }
+
+    private MappingBuilder mappingFor(int i) {
+      switch (kindOf(i)) {
+        case JSON_PATH:
+          return post("/things/json")
+              .withRequestBody(matchingJsonPath("$.id", equalTo(String.valueOf(i))));
+        case SUBSTRING:
+          return post("/things/text").withRequestBody(containing("ref-" + i + ";"));
+        default:
+          return get("/things/" + i);
+      }
+    }
+
+    private MockRequest requestFor(int i) {
+      switch (kindOf(i)) {
+        case JSON_PATH:
+          return mockRequest()
+              .method(POST)
+              .url("/things/json")
+              .header("Content-Type", "application/json")
+              .body("{\"id\": \"" + i + "\", \"name\": \"Thing " + i + "\"}");
+        case SUBSTRING:
+          return mockRequest()
+              .method(POST)
+              .url("/things/text")
+              .header("Content-Type", "text/plain")
+              .body("ref-" + i + "; some text to search through");
+        default:
+          return mockRequest().method(GET).url("/things/" + i);
+      }
+    }
+
+    private StubKind kindOf(int i) {
+      switch (matcherMix) {
+        case JSON_BODY:
+          return StubKind.JSON_PATH;
+        case MIXED:
+          return StubKind.values()[i % 3];
+        default:
+          return StubKind.URL;
+      }
+    }
+
+    private ResponseDefinitionBuilder responseFor(int i) {
+      return templating
+          ? ok("{{request.method}} {{request.path}} " + i).withTransformers("response-template")
+          : ok("Stub " + i);
+    }
+  }
+
+  /** Each thread replays the same fixed sequence of requests, in order and wrapping around. */
+  @State(Scope.Thread)
+  public static class RequestCursor {
+    private int next;
+
+    MockRequest nextOf(MockRequest[] requests) {
+      final MockRequest request = requests[next];
+      next = (next + 1) % requests.length;
+      return request;
+    }
+  }
+
+  @Benchmark
+  public Response serve(ServePathState state, RequestCursor cursor) {
+    return state.server.stubRequest(cursor.nextOf(state.requests));
+  }
+
+  public static void main(String[] args) throws Exception {
+    new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ServePathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+
+  // Unmatched requests are reported as errors, which would otherwise be logged on every call
+  private static class QuietNotifier implements Notifier {
+    @Override
+    public void info(String message) {}
+
+    @Override
+    public void error(String message) {}
+
+    @Override
+    public void error(String message, Throwable t) {}
+  }
+}
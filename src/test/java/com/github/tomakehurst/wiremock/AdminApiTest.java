@@ -30,8 +30,10 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import com.github.tomakehurst.wiremock.admin.model.GetServeEventsResult;
 import com.github.tomakehurst.wiremock.common.Errors;
 import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.Gzip;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.TextFile;
 import com.github.tomakehurst.wiremock.extension.Parameters;
@@ -152,6 +154,33 @@ class AdminApiTest extends AcceptanceTestBase {
         .isEqualTo("/things/14");
   }
 
+  @Test
+  void getAllStubMappingsGzippedWhenAccepted() {
+    for (int i = 1; i <= 3; i++) {
+      dsl.stubFor(get(urlEqualTo("/things/" + i)).willReturn(aResponse().withStatus(418)));
+    }
+
+    WireMockResponse response =
+        testClient.get(
+            "/__admin/mappings?limit=2", new TestHttpHeader("Accept-Encoding", "gzip, deflate"));
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.firstHeader("Content-Encoding"), is("gzip"));
+    String body = Gzip.unGzipToString(response.binaryContent());
+    JsonAssertion.assertThat(body).field("mappings").array().hasSize(2);
+    JsonAssertion.assertThat(body).field("meta").field("total").isEqualTo(3);
+  }
+
+  @Test
+  void getAllStubMappingsNotGzippedUnlessAccepted() {
+    dsl.stubFor(get(urlEqualTo("/things/1")).willReturn(aResponse().withStatus(418)));
+
+    WireMockResponse response = testClient.get("/__admin/mappings");
+
+    assertThat(response.firstHeader("Content-Encoding"), nullValue());
+    JsonAssertion.assertThat(response.content()).field("mappings").array().hasSize(1);
+  }
+
   @Test
   void deprecatedGetAllStubMappings() throws Exception {
     dsl.stubFor(get(urlEqualTo("/my-test-url")).willReturn(aResponse().withStatus(418)));
@@ -318,6 +347,72 @@ class AdminApiTest extends AcceptanceTestBase {
     check.field("requests").hasSize(3);
   }
 
+  @Test
+  void pagesThroughLoggedRequestsWithCursor() {
+    for (int i = 1; i <= 5; i++) {
+      testClient.get("/received-request/" + i);
+    }
+
+    GetServeEventsResult firstPage =
+        Json.read(
+            testClient.get("/__admin/requests?limit=2").content(), GetServeEventsResult.class);
+    assertThat(firstPage.getMeta().total, is(5));
+    assertThat(urlsOf(firstPage), contains("/received-request/5", "/received-request/4"));
+    assertThat(firstPage.getNextCursor(), notNullValue());
+
+    GetServeEventsResult secondPage =
+        Json.read(
+            testClient
+                .get("/__admin/requests?limit=2&cursor=" + firstPage.getNextCursor())
+                .content(),
+            GetServeEventsResult.class);
+    assertThat(urlsOf(secondPage), contains("/received-request/3", "/received-request/2"));
+
+    GetServeEventsResult lastPage =
+        Json.read(
+            testClient
+                .get("/__admin/requests?limit=2&cursor=" + secondPage.getNextCursor())
+                .content(),
+            GetServeEventsResult.class);
+    assertThat(urlsOf(lastPage), contains("/received-request/1"));
+    assertThat(lastPage.getNextCursor(), nullValue());
+  }
+
+  @Test
+  void cursorContinuesFromOlderRequestsWhenItsRequestHasBeenRemoved() {
+    for (int i = 1; i <= 3; i++) {
+      testClient.get("/received-request/" + i);
+    }
+
+    GetServeEventsResult firstPage =
+        Json.read(
+            testClient.get("/__admin/requests?limit=1").content(), GetServeEventsResult.class);
+    testClient.delete("/__admin/requests/" + firstPage.getRequests().get(0).getId());
+
+    GetServeEventsResult secondPage =
+        Json.read(
+            testClient.get("/__admin/requests?cursor=" + firstPage.getNextCursor()).content(),
+            GetServeEventsResult.class);
+    assertThat(urlsOf(secondPage), contains("/received-request/2", "/received-request/1"));
+  }
+
+  @Test
+  void getLoggedRequestsWithInvalidCursorReturnsBadRequest() {
+    WireMockResponse response = testClient.get("/__admin/requests?cursor=not-a-cursor");
+
+    assertThat(response.statusCode(), is(400));
+    JsonAssertion.assertThat(response.content())
+        .field("errors")
+        .elementWithIndex(0)
+        .field("source")
+        .field("pointer")
+        .isEqualTo("cursor");
+  }
+
+  private static List<String> urlsOf(GetServeEventsResult result) {
+    return result.getRequests().stream().map(event -> event.getRequest().getUrl()).toList();
+  }
+
   @Test
   void getLoggedRequestById() {
     for (int i = 1; i <= 3; i++) {
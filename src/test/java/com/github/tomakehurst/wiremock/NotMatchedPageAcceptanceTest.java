@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2023 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import static com.github.tomakehurst.wiremock.testsupport.TestHttpHeader.withHea
 import static com.github.tomakehurst.wiremock.testsupport.WireMatchers.equalsMultiLine;
 import static com.github.tomakehurst.wiremock.verification.notmatched.PlainTextStubNotMatchedRenderer.CONSOLE_WIDTH_HEADER_KEY;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
@@ -39,6 +41,7 @@ import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
 import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import com.github.tomakehurst.wiremock.verification.diff.DiffEventData;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
@@ -272,6 +275,43 @@ public class NotMatchedPageAcceptanceTest {
     assertThat(response.content(), containsString("Request was not matched"));
   }
 
+  @Test
+  public void attachesNearMissReportToServeEventWhenRenderedAsynchronously() {
+    configure(wireMockConfig().asynchronousNotMatchedRendering(true));
+    stubFor(get("/thing").willReturn(ok()));
+
+    WireMockResponse response = testClient.get("/thin");
+
+    assertThat(response.statusCode(), is(404));
+    assertThat(
+        response.content(),
+        is("Request was not matched. See the request journal for the near miss report.\n"));
+    await()
+        .atMost(5, SECONDS)
+        .until(() -> wm.getAllServeEvents().get(0).getDiffSubEvent().isPresent());
+    assertThat(
+        wm.getAllServeEvents()
+            .get(0)
+            .getDiffSubEvent()
+            .get()
+            .getDataAs(DiffEventData.class)
+            .getReport(),
+        containsString("/thing"));
+  }
+
+  @Test
+  public void rendersNearMissReportsAsynchronouslyAgainAfterRestart() {
+    configure(wireMockConfig().asynchronousNotMatchedRendering(true));
+    wm.stop();
+    wm.start();
+    testClient = new WireMockTestClient(wm.port());
+
+    assertThat(testClient.get("/thin").statusCode(), is(404));
+    await()
+        .atMost(5, SECONDS)
+        .until(() -> wm.getAllServeEvents().get(0).getDiffSubEvent().isPresent());
+  }
+
   private void configure() {
     configure(wireMockConfig().dynamicPort());
   }
@@ -129,6 +129,106 @@ public class ProxyAcceptanceTest {
     assertThat(response.firstHeader("Content-Type"), is("text/plain"));
   }
 
+  @Test
+  public void streamsResponseBodyFromOtherServiceWhenStreamingIsEnabled() {
+    init(wireMockConfig().streamProxiedResponses(true));
+
+    String largeBody = "0123456789".repeat(100_000);
+    target.register(
+        get(urlEqualTo("/proxied/large"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "text/plain")
+                    .withBody(largeBody)));
+
+    proxy.register(
+        any(urlEqualTo("/proxied/large"))
+            .willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    WireMockResponse response = testClient.get("/proxied/large");
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.content(), is(largeBody));
+    assertThat(response.firstHeader("Content-Type"), is("text/plain"));
+    assertThat(proxyingService.getAllServeEvents().get(0).getResponse().getBody(), nullValue());
+  }
+
+  @Test
+  public void getsResponseFromOtherServiceWhenProxyingAsynchronously() {
+    init(wireMockConfig().asynchronousProxying(true));
+
+    target.register(
+        post(urlEqualTo("/proxied/async"))
+            .willReturn(
+                aResponse()
+                    .withStatus(201)
+                    .withHeader("Content-Type", "text/plain")
+                    .withFixedDelay(200)
+                    .withBody("Async proxied content")));
+
+    proxy.register(
+        any(urlEqualTo("/proxied/async"))
+            .willReturn(
+                aResponse()
+                    .proxiedFrom(targetServiceBaseUrl)
+                    .withAdditionalRequestHeader("X-Extra", "extra")));
+
+    WireMockResponse response =
+        testClient.postWithBody("/proxied/async", "Request content", "text/plain", "utf-8");
+
+    assertThat(response.statusCode(), is(201));
+    assertThat(response.content(), is("Async proxied content"));
+    assertThat(response.firstHeader("Content-Type"), is("text/plain"));
+    target.verifyThat(
+        postRequestedFor(urlEqualTo("/proxied/async"))
+            .withHeader("X-Extra", equalTo("extra"))
+            .withRequestBody(equalTo("Request content")));
+    assertThat(
+        proxyingService.getAllServeEvents().get(0).getResponse().getBodyAsString(),
+        is("Async proxied content"));
+  }
+
+  @Test
+  void proxiesAsynchronouslyAfterTheProxyingServerHasBeenRestarted() {
+    init(wireMockConfig().asynchronousProxying(true));
+
+    target.register(get(urlEqualTo("/proxied/async")).willReturn(ok("Async proxied content")));
+    proxy.register(
+        get(urlEqualTo("/proxied/async"))
+            .willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    assertThat(testClient.get("/proxied/async").content(), is("Async proxied content"));
+
+    int port = proxyingService.port();
+    proxyingService.stop();
+    proxyingService.start();
+    testClient = new WireMockTestClient(proxyingService.port());
+    assertThat(proxyingService.port(), is(port));
+
+    WireMockResponse response = testClient.get("/proxied/async");
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.content(), is("Async proxied content"));
+  }
+
+  @Test
+  void returnsServerErrorWhenAsynchronousProxyRequestTimesOut() {
+    init(wireMockConfig().asynchronousProxying(true).proxyTimeout(500));
+
+    target.register(
+        get(urlEqualTo("/proxied/slow")).willReturn(aResponse().withFixedDelay(1500)));
+    proxy.register(
+        any(urlEqualTo("/proxied/slow"))
+            .willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    WireMockResponse response = testClient.get("/proxied/slow");
+
+    assertThat(response.statusCode(), is(500));
+    assertThat(
+        response.content(),
+        startsWith("Network failure trying to make a proxied request from WireMock"));
+  }
+
   @Test
   public void
       successfullyGetsResponseFromOtherServiceViaProxyWhenInjectingAddtionalRequestHeaders() {
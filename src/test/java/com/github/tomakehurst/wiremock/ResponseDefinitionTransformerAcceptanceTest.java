@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014-2023 Thomas Akehurst
+ * Copyright (C) 2014-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
 import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
 import org.junit.jupiter.api.AfterEach;
@@ -129,6 +130,38 @@ public class ResponseDefinitionTransformerAcceptanceTest {
     assertThat(response.content(), is("Non-global transformed body"));
   }
 
+  @Test
+  public void appliesNonGlobalExtensionsAddedWhenStubIsEdited() {
+    wm = new WireMockServer(wireMockConfig().dynamicPort().extensions(new NonGlobalTransformer()));
+    wm.start();
+    client = new WireMockTestClient(wm.port());
+
+    StubMapping stub =
+        wm.stubFor(get(urlEqualTo("/edited-transform")).willReturn(aResponse().withBody("Before")));
+    assertThat(client.get("/edited-transform").content(), is("Before"));
+
+    wm.editStub(
+        get(urlEqualTo("/edited-transform"))
+            .withId(stub.getId())
+            .willReturn(aResponse().withBody("Should not see this").withTransformers("local")));
+    assertThat(client.get("/edited-transform").content(), is("Non-global transformed body"));
+  }
+
+  @Test
+  public void appliesNonGlobalExtensionsNamedByAnEarlierTransformer() {
+    wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .extensions(new LocalEnablingTransformer(), new NonGlobalTransformer()));
+    wm.start();
+    client = new WireMockTestClient(wm.port());
+    createStub("/enabled-transform");
+
+    WireMockResponse response = client.get("/enabled-transform");
+    assertThat(response.content(), is("Non-global transformed body"));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   public void preventsMoreThanOneExtensionWithTheSameNameFromBeingAdded() {
@@ -275,6 +308,26 @@ public class ResponseDefinitionTransformerAcceptanceTest {
     }
   }
 
+  public static class LocalEnablingTransformer extends ResponseDefinitionTransformer {
+
+    @Override
+    public ResponseDefinition transform(
+        Request request,
+        ResponseDefinition responseDefinition,
+        FileSource files,
+        Parameters parameters) {
+      return ResponseDefinitionBuilder.like(responseDefinition)
+          .but()
+          .withTransformers("local")
+          .build();
+    }
+
+    @Override
+    public String getName() {
+      return "local-enabling";
+    }
+  }
+
   public static class AnotherExampleTransformer extends ResponseDefinitionTransformer {
 
     @Override
@@ -20,6 +20,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 
 import com.github.tomakehurst.wiremock.common.JettySettings;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
@@ -48,9 +49,9 @@ public class ResponseDelayAsynchronousAcceptanceTest {
 
   @RegisterExtension
   public WireMockExtension wireMockRule =
-      WireMockExtension.newInstance().configureStaticDsl(true).options(getOptions()).build();
+      WireMockExtension.newInstance().configureStaticDsl(true).options(getOptions(10)).build();
 
-  private static WireMockConfiguration getOptions() {
+  private static WireMockConfiguration getOptions(int asynchronousResponseThreads) {
     WireMockConfiguration wireMockConfiguration = new WireMockConfiguration();
     wireMockConfiguration
         .httpServerFactory(
@@ -58,7 +59,7 @@ public class ResponseDelayAsynchronousAcceptanceTest {
                 JettySettings.Builder.aJettySettings().withAcceptors(1).build()))
         .containerThreads(8);
     wireMockConfiguration.asynchronousResponseEnabled(true);
-    wireMockConfiguration.asynchronousResponseThreads(10);
+    wireMockConfiguration.asynchronousResponseThreads(asynchronousResponseThreads);
     wireMockConfiguration.dynamicPort();
     return wireMockConfiguration;
   }
@@ -110,7 +111,39 @@ public class ResponseDelayAsynchronousAcceptanceTest {
     }
   }
 
+  @Test
+  public void dribblesMoreResponsesAtOnceThanThereAreResponseThreads() throws Exception {
+    WireMockServer twoThreadServer = new WireMockServer(getOptions(2));
+    twoThreadServer.start();
+    try {
+      String body = "chunked-body-to-return";
+      twoThreadServer.stubFor(
+          get("/delayed")
+              .willReturn(
+                  ok().withBody(body).withChunkedDribbleDelay(5, SHORTER_THAN_SOCKET_TIMEOUT)));
+
+      List<Future<TimedHttpResponse>> responses =
+          httpClientExecutor.invokeAll(
+              getHttpRequestCallables(10, twoThreadServer.url("/delayed")));
+
+      // If each dribbling response held one of the two threads, most would time out waiting
+      for (Future<TimedHttpResponse> response : responses) {
+        TimedHttpResponse timedResponse = response.get();
+        assertThat(timedResponse.status, is(200));
+        assertThat(timedResponse.body, is(body));
+        assertThat(timedResponse.milliseconds, lessThan((long) SOCKET_TIMEOUT_MILLISECONDS * 2));
+      }
+    } finally {
+      twoThreadServer.stop();
+    }
+  }
+
   private List<Callable<TimedHttpResponse>> getHttpRequestCallables(int requestCount) {
+    return getHttpRequestCallables(requestCount, wireMockRule.url("/delayed"));
+  }
+
+  private List<Callable<TimedHttpResponse>> getHttpRequestCallables(
+      int requestCount, String url) {
     List<Callable<TimedHttpResponse>> requests = new ArrayList<>();
     for (int i = 0; i < requestCount; i++) {
       final Stopwatch stopwatch = Stopwatch.createStarted();
@@ -118,7 +151,7 @@ public class ResponseDelayAsynchronousAcceptanceTest {
           () -> {
             CloseableHttpResponse response =
                 HttpClientFactory.createClient(SOCKET_TIMEOUT_MILLISECONDS)
-                    .execute(new HttpGet(wireMockRule.url("/delayed")));
+                    .execute(new HttpGet(url));
             int status = response.getCode();
             String body = EntityUtils.toString(response.getEntity());
             long milliseconds = stopwatch.elapsed(MILLISECONDS);
@@ -79,6 +79,24 @@ public class ResponseTemplatingAcceptanceTest {
       assertThat(content, is("{ \"key\": \"foo\" }"));
     }
 
+    @Test
+    public void streamsTemplatedBodyWhenRequested() {
+      wm.stubFor(
+          get(urlPathEqualTo("/streamed"))
+              .willReturn(
+                  aResponse()
+                      .withBody("{{#each (range 1 5)}}{{this}},{{/each}}{{request.path.[0]}}")
+                      .withTransformers("response-template")
+                      .withTransformerParameter("streamBody", true)));
+
+      WireMockResponse response = client.get("/streamed");
+
+      assertThat(response.content(), is("1,2,3,4,5,streamed"));
+      assertThat(
+          wm.getAllServeEvents().get(0).getResponse().getBodyAsString(),
+          is("1,2,3,4,5,streamed"));
+    }
+
     @Test
     public void doesNotApplyResponseTemplateWhenNotAddedToStubMapping() {
       wm.stubFor(
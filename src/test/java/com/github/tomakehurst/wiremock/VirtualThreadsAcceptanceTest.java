@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.github.tomakehurst.wiremock.http.HttpClientFactory;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.google.common.base.Stopwatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VirtualThreadsAcceptanceTest {
+
+  private static final int CONCURRENT_REQUESTS = 100;
+  private static final int DELAY_MILLISECONDS = 1000;
+
+  @RegisterExtension
+  public WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(wireMockConfig().dynamicPort().containerThreads(10).virtualThreads(true))
+          .build();
+
+  private final ExecutorService clientExecutor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+  private final CloseableHttpClient client =
+      HttpClientFactory.createClient(CONCURRENT_REQUESTS, 10_000);
+
+  @AfterEach
+  public void cleanUp() throws Exception {
+    clientExecutor.shutdownNow();
+    client.close();
+  }
+
+  @Test
+  public void servesMoreDelayedResponsesAtOnceThanThereAreContainerThreads() throws Exception {
+    wm.stubFor(get("/delayed").willReturn(ok("done").withFixedDelay(DELAY_MILLISECONDS)));
+
+    List<Callable<String>> requests = new ArrayList<>();
+    for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+      requests.add(
+          () ->
+              client.execute(
+                  new HttpGet(wm.url("/delayed")),
+                  response -> EntityUtils.toString(response.getEntity())));
+    }
+
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    for (Future<String> response : clientExecutor.invokeAll(requests)) {
+      assertThat(response.get(), is("done"));
+    }
+
+    // With only the container threads, the requests would be served ten or so at a time
+    assertThat(stopwatch.elapsed(MILLISECONDS), lessThan(DELAY_MILLISECONDS * 5L));
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class HashedWheelSchedulerTest {
+
+  HashedWheelScheduler scheduler = new HashedWheelScheduler(5, MILLISECONDS, 8, 2);
+
+  @AfterEach
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void runsTasksNoEarlierThanTheirDelay() throws Exception {
+    long start = System.nanoTime();
+    ScheduledFuture<String> future = scheduler.schedule(() -> "done", 60, MILLISECONDS);
+
+    assertThat(future.get(1, SECONDS), is("done"));
+    assertThat(
+        MILLISECONDS.convert(System.nanoTime() - start, NANOSECONDS), greaterThanOrEqualTo(60L));
+  }
+
+  @Test
+  public void runsTasksWhoseDelaysSpanSeveralTurnsOfTheWheel() throws Exception {
+    int count = 50;
+    CountDownLatch latch = new CountDownLatch(count);
+    AtomicInteger early = new AtomicInteger();
+
+    for (int i = 0; i < count; i++) {
+      long delayMillis = i * 4;
+      long dueNanos = System.nanoTime() + MILLISECONDS.toNanos(delayMillis);
+      scheduler.schedule(
+          () -> {
+            if (System.nanoTime() < dueNanos) {
+              early.incrementAndGet();
+            }
+            latch.countDown();
+          },
+          delayMillis,
+          MILLISECONDS);
+    }
+
+    assertThat(latch.await(5, SECONDS), is(true));
+    assertThat(early.get(), is(0));
+    assertThat(scheduler.getFiredTimers(), is((long) count));
+    assertThat(scheduler.getPendingTimers(), is(0L));
+  }
+
+  @Test
+  public void doesNotRunCancelledTasks() throws Exception {
+    AtomicBoolean ran = new AtomicBoolean();
+    ScheduledFuture<?> future = scheduler.schedule(() -> ran.set(true), 20, MILLISECONDS);
+    assertThat(scheduler.getPendingTimers(), is(1L));
+
+    future.cancel(false);
+    assertThat(scheduler.getPendingTimers(), is(0L));
+
+    scheduler.schedule(() -> "later", 40, MILLISECONDS).get(1, SECONDS);
+    assertThat(ran.get(), is(false));
+  }
+
+  @Test
+  public void reportsHowLateTasksStarted() throws Exception {
+    scheduler.schedule(() -> "done", 10, MILLISECONDS).get(1, SECONDS);
+
+    assertThat(scheduler.getFiredTimers(), is(1L));
+    assertThat(scheduler.getMaxScheduleLagMillis(), greaterThanOrEqualTo(0L));
+    assertThat(scheduler.getMeanScheduleLagMillis(), greaterThanOrEqualTo(0.0));
+  }
+
+  @Test
+  public void rejectsPeriodicTasksAndTasksAfterShutdown() {
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> scheduler.scheduleAtFixedRate(() -> {}, 0, 10, MILLISECONDS));
+
+    scheduler.shutdown();
+    assertThrows(
+        RejectedExecutionException.class, () -> scheduler.schedule(() -> {}, 10, MILLISECONDS));
+  }
+}
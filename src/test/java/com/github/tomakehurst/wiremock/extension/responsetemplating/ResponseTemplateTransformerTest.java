@@ -19,13 +19,16 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
 import static com.github.tomakehurst.wiremock.stubbing.ServeEventFactory.newPostMatchServeEvent;
 import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.Collections.emptyList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 import com.github.jknack.handlebars.Helper;
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
 import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.Body;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.matching.MockRequest;
@@ -34,6 +37,10 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEventFactory;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.testsupport.ExtensionFactoryUtils;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAdjusters;
@@ -46,6 +53,7 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ResponseTemplateTransformerTest {
 
@@ -841,6 +849,67 @@ public class ResponseTemplateTransformerTest {
     assertThat(transformer.getCacheSize(), is(0L));
   }
 
+  @Test
+  public void onlyReadsTemplatedBodyFilesOnCacheMiss(@TempDir Path root) throws Exception {
+    Path bodyFile = root.resolve("greet.txt");
+    Files.writeString(bodyFile, "Hello {{request.query.name}}");
+    transformer =
+        new ResponseTemplateTransformer(
+            TemplateEngine.defaultTemplateEngine(),
+            false,
+            new SingleRootFileSource(root.toFile()),
+            emptyList());
+
+    ResponseDefinitionBuilder response = aResponse().withBodyFile("greet.txt");
+    transformFromResponseFile(mockRequest().url("/?name=One"), response);
+    ResponseDefinition second =
+        transformFromResponseFile(mockRequest().url("/?name=Two"), response);
+
+    assertThat(second.getBody(), is("Hello Two"));
+    assertThat(transformer.getCacheMissCount(), is(1L));
+    assertThat(transformer.getCacheHitCount(), is(1L));
+  }
+
+  @Test
+  public void picksUpChangesToTemplatedBodyFiles(@TempDir Path root) throws Exception {
+    Path bodyFile = root.resolve("greet.txt");
+    Files.writeString(bodyFile, "Hello {{request.query.name}}");
+    transformer =
+        new ResponseTemplateTransformer(
+            TemplateEngine.defaultTemplateEngine(),
+            false,
+            new SingleRootFileSource(root.toFile()),
+            emptyList());
+
+    ResponseDefinitionBuilder response = aResponse().withBodyFile("greet.txt");
+    transformFromResponseFile(mockRequest().url("/?name=One"), response);
+
+    Files.writeString(bodyFile, "Goodbye {{request.query.name}}");
+    ResponseDefinition changed =
+        transformFromResponseFile(mockRequest().url("/?name=One"), response);
+
+    assertThat(changed.getBody(), is("Goodbye One"));
+    assertThat(transformer.getCacheMissCount(), is(2L));
+    assertThat(transformer.getCacheSize(), is(1L));
+  }
+
+  @Test
+  public void rendersBodyAsItIsWrittenWhenStreamingIsRequested() throws Exception {
+    ResponseDefinition transformedResponseDef =
+        transform(
+            mockRequest().url("/things?name=Ram"),
+            aResponse().withBody("Hello {{request.query.name}}"),
+            Parameters.one(ResponseTemplateTransformer.STREAM_BODY_PARAMETER, true));
+
+    Body body = transformedResponseDef.getReponseBody();
+    assertThat(body.isStreamed(), is(true));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.getStreamSource().writeTo(out);
+    assertThat(out.toString(StandardCharsets.UTF_8), is("Hello Ram"));
+    assertThat(transformedResponseDef.getBody(), is("Hello Ram"));
+  }
+
   @Test
   public void arrayStyleQueryParametersCanBeResolvedViaLookupHelper() {
     ResponseDefinition transformedResponseDef =
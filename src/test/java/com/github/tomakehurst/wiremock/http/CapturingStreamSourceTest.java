@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.github.tomakehurst.wiremock.common.Limit;
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CapturingStreamSourceTest {
+
+  @Test
+  void capturesBodyAsItIsWrittenWithoutGeneratingItAgain() throws Exception {
+    AtomicInteger writes = new AtomicInteger();
+    CapturingStreamSource source = new CapturingStreamSource(countingSource(writes), null);
+    assertThat(source.getCaptured(), nullValue());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    source.writeTo(out);
+
+    assertThat(out.toString(UTF_8), is("0123456789"));
+    assertThat(new String(source.getCaptured(), UTF_8), is("0123456789"));
+    assertThat(writes.get(), is(1));
+  }
+
+  @Test
+  void capturesNoMoreThanTheLimit() throws Exception {
+    CapturingStreamSource source =
+        new CapturingStreamSource(countingSource(new AtomicInteger()), new Limit(4));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    source.writeTo(out);
+
+    assertThat(out.toString(UTF_8), is("0123456789"));
+    assertThat(new String(source.getCaptured(), UTF_8), is("0123"));
+  }
+
+  @Test
+  void closesTheSourceItWrapsSoThatAnUnsentBodyIsReleased() throws Exception {
+    AtomicInteger closes = new AtomicInteger();
+    CapturingStreamSource source =
+        new CapturingStreamSource(closeableSource(closes), Limit.UNLIMITED);
+
+    source.close();
+
+    assertThat(closes.get(), is(1));
+    assertThat(source.getCaptured(), nullValue());
+  }
+
+  private static WritableStreamSource countingSource(AtomicInteger writes) {
+    return new WritableStreamSource() {
+      @Override
+      public void writeTo(OutputStream out) throws IOException {
+        writes.incrementAndGet();
+        out.write("012".getBytes(UTF_8));
+        out.write('3');
+        out.write("456789".getBytes(UTF_8));
+      }
+    };
+  }
+
+  private static WritableStreamSource closeableSource(AtomicInteger closes) {
+    class CloseableSource extends WritableStreamSource implements Closeable {
+      @Override
+      public void writeTo(OutputStream out) {}
+
+      @Override
+      public void close() {
+        closes.incrementAndGet();
+      }
+    }
+
+    return new CloseableSource();
+  }
+}
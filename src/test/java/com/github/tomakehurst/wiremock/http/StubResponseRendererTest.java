@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.http;
 
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
 import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
 import static com.github.tomakehurst.wiremock.stubbing.ServeEventFactory.newPostMatchServeEvent;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -29,6 +30,7 @@ import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -109,6 +111,30 @@ public class StubResponseRendererTest {
     assertThat(response.getInitialDelay(), is(2123L));
   }
 
+  @Test
+  public void transformsAlreadyRenderedProxyResponsesOnTheCallingThread() {
+    ProxyResponseRenderer proxyResponseRenderer = Mockito.mock(ProxyResponseRenderer.class);
+    ServeEvent serveEvent =
+        newPostMatchServeEvent(
+            mockRequest(), responseDefinition().proxiedFrom("http://localhost:8080").build());
+    Mockito.when(proxyResponseRenderer.renderAsync(serveEvent))
+        .thenReturn(CompletableFuture.completedFuture(Response.response().status(200).build()));
+    StubResponseRenderer renderer =
+        new StubResponseRenderer(
+            filesBlobStore,
+            settingsStore,
+            proxyResponseRenderer,
+            responseTransformers,
+            v2ResponseTransformers);
+    List<Runnable> queued = new ArrayList<>();
+
+    CompletableFuture<Response> response = renderer.renderAsync(serveEvent, queued::add);
+
+    assertThat(response.isDone(), is(true));
+    assertThat(response.join().getStatus(), is(200));
+    assertThat(queued.isEmpty(), is(true));
+  }
+
   private ServeEvent createServeEvent(Integer fixedDelayMillis) {
     return newPostMatchServeEvent(
         mockRequest(),
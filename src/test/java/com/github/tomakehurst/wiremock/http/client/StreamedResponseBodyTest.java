@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+public class StreamedResponseBodyTest {
+
+  AtomicBoolean closed = new AtomicBoolean();
+
+  @Test
+  public void writesUpstreamContentAndReleasesTheConnection() throws Exception {
+    StreamedResponseBody body = streamedBody("streamed content");
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+
+    assertThat(out.toString(UTF_8), is("streamed content"));
+    assertThat(body.isBuffered(), is(false));
+    assertThat(closed.get(), is(true));
+  }
+
+  @Test
+  public void keepsTheContentOnceReadAsAStreamSoItCanStillBeWritten() throws Exception {
+    StreamedResponseBody body = streamedBody("buffered content");
+
+    assertThat(new String(body.getStream().readAllBytes(), UTF_8), is("buffered content"));
+    assertThat(body.isBuffered(), is(true));
+    assertThat(closed.get(), is(true));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+    assertThat(out.toString(UTF_8), is("buffered content"));
+  }
+
+  @Test
+  public void cannotBeReadAgainOnceWritten() throws Exception {
+    StreamedResponseBody body = streamedBody("streamed content");
+    body.writeTo(new ByteArrayOutputStream());
+
+    assertThrows(IllegalStateException.class, body::getStream);
+  }
+
+  private StreamedResponseBody streamedBody(String content) {
+    return new StreamedResponseBody(
+        new ByteArrayInputStream(content.getBytes(UTF_8)), () -> closed.set(true));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.common.RequestCache;
+import com.github.tomakehurst.wiremock.common.xml.XmlException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParsedContentTest {
+
+  @BeforeEach
+  @AfterEach
+  public void clearRequestCache() {
+    RequestCache.onRequestEnd();
+  }
+
+  @Test
+  public void parsesEachJsonValueOnlyOncePerRequest() {
+    String json = "{ \"one\": 1 }";
+
+    assertThat(ParsedContent.json(json), sameInstance(ParsedContent.json(new String(json))));
+  }
+
+  @Test
+  public void parsesAgainInTheNextRequest() {
+    String json = "{ \"one\": 1 }";
+    Object first = ParsedContent.json(json);
+
+    RequestCache.onRequestEnd();
+
+    assertThat(ParsedContent.json(json), not(sameInstance(first)));
+  }
+
+  @Test
+  public void keepsOnlyTheMostRecentlyParsedValues() {
+    String json = "{ \"one\": 1 }";
+    Object first = ParsedContent.json(json);
+
+    for (int i = 0; i < ParsedContent.MAX_CACHED_VALUES; i++) {
+      ParsedContent.json("{ \"other\": " + i + " }");
+    }
+
+    assertThat(ParsedContent.json(json), not(sameInstance(first)));
+  }
+
+  @Test
+  public void rethrowsTheSameParseFailureEachTime() {
+    JsonException first = assertThrows(JsonException.class, () -> ParsedContent.json("{ bad"));
+    JsonException second = assertThrows(JsonException.class, () -> ParsedContent.json("{ bad"));
+
+    assertSame(first, second);
+  }
+
+  @Test
+  public void parsesEachXmlValueOnlyOncePerRequest() {
+    String xml = "<thing>1</thing>";
+
+    assertThat(ParsedContent.xml(xml), sameInstance(ParsedContent.xml(xml)));
+    assertThrows(XmlException.class, () -> ParsedContent.xml("<thing>"));
+  }
+
+  @Test
+  public void patternsOfDifferentTypesShareTheParsedBody() {
+    String body = "{ \"one\": 1, \"two\": 2 }";
+
+    assertTrue(WireMock.equalToJson("{ \"one\": 1, \"two\": 2 }").match(body).isExactMatch());
+    assertTrue(
+        WireMock.matchingJsonSchema("{ \"type\": \"object\" }").match(body).isExactMatch());
+    assertThat(ParsedContent.json(body), sameInstance(ParsedContent.json(body)));
+  }
+}
@@ -328,6 +328,18 @@ public class CommandLineOptionsTest {
     assertThat(options.containerThreads(), is(25));
   }
 
+  @Test
+  public void enablesVirtualThreadsWhenRequested() {
+    assertThat(new CommandLineOptions("--virtual-threads").getVirtualThreadsEnabled(), is(true));
+    assertThat(new CommandLineOptions().getVirtualThreadsEnabled(), is(false));
+  }
+
+  @Test
+  public void enablesWatchingMappingsWhenRequested() {
+    assertThat(new CommandLineOptions("--watch-mappings").getWatchMappings(), is(true));
+    assertThat(new CommandLineOptions().getWatchMappings(), is(false));
+  }
+
   @Test
   public void returnsCorrectlyParsedJettyAcceptorThreads() {
     CommandLineOptions options = new CommandLineOptions("--jetty-acceptor-threads", "400");
@@ -575,6 +587,16 @@ public class CommandLineOptionsTest {
     assertThat(options.getAsynchronousResponseSettings().getThreads(), is(20));
   }
 
+  @Test
+  public void setsAsynchronousResponseTimerTick() {
+    CommandLineOptions options = new CommandLineOptions("--async-response-timer-tick", "5");
+    assertThat(options.getAsynchronousResponseSettings().getTimerTickMillis(), is(5));
+    assertThat(options.getAsynchronousResponseSettings().isTimerWheelEnabled(), is(true));
+    assertThat(
+        new CommandLineOptions().getAsynchronousResponseSettings().isTimerWheelEnabled(),
+        is(false));
+  }
+
   @Test
   public void setsChunkedEncodingPolicy() {
     CommandLineOptions options = new CommandLineOptions("--use-chunked-encoding", "always");
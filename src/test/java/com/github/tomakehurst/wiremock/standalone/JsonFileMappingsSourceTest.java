@@ -22,9 +22,12 @@ import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.testsupport.TestFiles.filePath;
 import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.github.tomakehurst.wiremock.common.ClasspathFileSource;
@@ -41,8 +44,11 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -242,4 +248,154 @@ class JsonFileMappingsSourceTest {
     assertThat(Files.readString(existingStub2File.toPath()), is(Json.writePrivate(newStub1)));
     assertThat(Files.readString(newStub2File.toPath()), is(Json.writePrivate(newStub2)));
   }
+
+  @Test
+  void loadsMappingsFromManyFilesInFileOrder() throws IOException {
+    for (int i = 0; i < 2500; i++) {
+      String name = String.format("thing-%04d", i);
+      StubMapping stub = get("/thing/" + i).withName(name).willReturn(ok()).build();
+      Files.writeString(new File(tempDir, name + ".json").toPath(), Json.write(stub));
+    }
+
+    load();
+
+    List<String> namesInFileOrder =
+        new SingleRootFileSource(tempDir).listFilesRecursively().stream()
+            .map(file -> new File(file.getPath()).getName().replace(".json", ""))
+            .collect(Collectors.toList());
+    List<String> namesInInsertionOrder =
+        stubMappings.getAll().stream()
+            .sorted(Comparator.comparingLong(StubMapping::getInsertionIndex))
+            .map(StubMapping::getName)
+            .collect(Collectors.toList());
+
+    assertThat(namesInInsertionOrder, is(namesInFileOrder));
+  }
+
+  @Test
+  void loadsEachMappingInMultiMappingFileAlongsideOtherTopLevelFields() throws Exception {
+    stubMappingFile = new File(tempDir, "multi-with-meta.json");
+    Files.writeString(
+        stubMappingFile.toPath(),
+        "{\n"
+            + "  \"$schema\": \"https://example.com/schema.json\",\n"
+            + "  \"mappings\": [\n"
+            + "    { \"request\": { \"url\": \"/one\" }, \"response\": { \"status\": 200 } },\n"
+            + "    { \"request\": { \"url\": \"/two\" }, \"response\": { \"status\": 201 } }\n"
+            + "  ],\n"
+            + "  \"meta\": { \"total\": 2 }\n"
+            + "}");
+
+    load();
+
+    assertThat(stubMappings.getAll(), hasSize(2));
+    StubMapping stub = stubMappings.getAll().get(0);
+    assertThrows(NotWritableException.class, () -> source.remove(stub.getId()));
+  }
+
+  @Test
+  void reportsWhichMappingFileCouldNotBeParsed() throws Exception {
+    StubMapping valid = get("/valid").willReturn(ok()).build();
+    Files.writeString(new File(tempDir, "valid.json").toPath(), Json.write(valid));
+    Files.writeString(new File(tempDir, "invalid.json").toPath(), "{ \"request\": ");
+
+    MappingFileException exception = assertThrows(MappingFileException.class, this::load);
+
+    assertThat(exception.getMessage(), containsString("invalid.json"));
+  }
+
+  @Test
+  void appliesOnlyTheChangesToChangedFiles() throws Exception {
+    StubMapping one = get("/one").withId(UUID.randomUUID()).willReturn(ok()).build();
+    StubMapping two = get("/two").withId(UUID.randomUUID()).willReturn(ok()).build();
+    File oneFile = new File(tempDir, "one.json");
+    File twoFile = new File(tempDir, "two.json");
+    Files.writeString(oneFile.toPath(), Json.write(one));
+    Files.writeString(twoFile.toPath(), Json.write(two));
+    load();
+    StubMapping loadedTwo = stubMappings.get(two.getId()).orElseThrow();
+
+    StubMapping three = get("/three").withId(UUID.randomUUID()).willReturn(ok()).build();
+    File threeFile = new File(tempDir, "three.json");
+    Files.writeString(oneFile.toPath(), Json.write(one).replace("/one", "/one-edited"));
+    Files.writeString(threeFile.toPath(), Json.write(three));
+    source.applyChanges(List.of(oneFile.toPath(), threeFile.toPath()), stubMappings);
+
+    assertThat(stubMappings.getAll(), hasSize(3));
+    assertThat(
+        stubMappings.get(one.getId()).orElseThrow().getRequest().getUrl(), is("/one-edited"));
+    assertThat(stubMappings.get(one.getId()).orElseThrow().isDirty(), is(false));
+    assertThat(stubMappings.get(two.getId()).orElseThrow(), sameInstance(loadedTwo));
+    assertThat(stubMappings.get(three.getId()).isPresent(), is(true));
+
+    Files.delete(oneFile.toPath());
+    source.applyChanges(List.of(oneFile.toPath()), stubMappings);
+
+    assertThat(stubMappings.get(one.getId()).isPresent(), is(false));
+    assertThat(stubMappings.getAll(), hasSize(2));
+  }
+
+  @Test
+  void keepsStubThatHasMovedToAnotherFile() throws Exception {
+    StubMapping moving = get("/moving").withId(UUID.randomUUID()).willReturn(ok()).build();
+    File laterFile = new File(tempDir, "later.json");
+    File earlierFile = new File(tempDir, "earlier.json");
+    Files.writeString(laterFile.toPath(), Json.write(moving));
+    load();
+
+    Files.writeString(earlierFile.toPath(), Json.write(moving));
+    Files.delete(laterFile.toPath());
+    source.applyChanges(List.of(laterFile.toPath(), earlierFile.toPath()), stubMappings);
+
+    assertThat(stubMappings.get(moving.getId()).isPresent(), is(true));
+    assertThat(stubMappings.getAll(), hasSize(1));
+
+    Files.delete(earlierFile.toPath());
+    source.applyChanges(List.of(earlierFile.toPath()), stubMappings);
+
+    assertThat(stubMappings.getAll(), empty());
+  }
+
+  @Test
+  void removesStubsFromDeletedDirectory() throws Exception {
+    File subDirectory = new File(tempDir, "sub");
+    assertThat(subDirectory.mkdir(), is(true));
+    StubMapping nested = get("/nested").withId(UUID.randomUUID()).willReturn(ok()).build();
+    Files.writeString(new File(subDirectory, "nested.json").toPath(), Json.write(nested));
+    load();
+    assertThat(stubMappings.get(nested.getId()).isPresent(), is(true));
+
+    Files.delete(new File(subDirectory, "nested.json").toPath());
+    Files.delete(subDirectory.toPath());
+    source.applyChanges(List.of(subDirectory.toPath()), stubMappings);
+
+    assertThat(stubMappings.getAll(), empty());
+  }
+
+  @Test
+  void keepsPreviousStubsWhenChangedFileCannotBeParsed() throws Exception {
+    StubMapping one = get("/one").withId(UUID.randomUUID()).willReturn(ok()).build();
+    File oneFile = new File(tempDir, "one.json");
+    Files.writeString(oneFile.toPath(), Json.write(one));
+    load();
+
+    Files.writeString(oneFile.toPath(), "{ \"request\": ");
+    source.applyChanges(List.of(oneFile.toPath()), stubMappings);
+
+    assertThat(stubMappings.get(one.getId()).orElseThrow().getRequest().getUrl(), is("/one"));
+  }
+
+  @Test
+  void picksUpChangedFilesWhileWatching() throws Exception {
+    load();
+    source.startWatching(stubMappings);
+    try {
+      StubMapping one = get("/one").withId(UUID.randomUUID()).willReturn(ok()).build();
+      Files.writeString(new File(tempDir, "one.json").toPath(), Json.write(one));
+
+      await().atMost(10, SECONDS).until(() -> stubMappings.get(one.getId()).isPresent(), is(true));
+    } finally {
+      source.stopWatching();
+    }
+  }
 }
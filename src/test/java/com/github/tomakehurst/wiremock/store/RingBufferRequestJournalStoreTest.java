@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferRequestJournalStoreTest {
+
+  @Test
+  void returnsEventsNewestFirst() {
+    RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(5);
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    ServeEvent three = anEvent("/3");
+
+    store.add(one);
+    store.add(two);
+    store.add(three);
+
+    assertThat(store.getAll().collect(toList()), contains(three, two, one));
+    assertThat(store.size(), is(3));
+  }
+
+  @Test
+  void evictsOldestEventWhenCapacityIsExceeded() {
+    RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(2);
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    ServeEvent three = anEvent("/3");
+
+    store.add(one);
+    store.add(two);
+    store.add(three);
+
+    assertThat(store.getAll().collect(toList()), contains(three, two));
+    assertThat(store.size(), is(2));
+    assertThat(store.get(one.getId()), is(Optional.empty()));
+    assertThat(store.get(three.getId()), is(Optional.of(three)));
+  }
+
+  @Test
+  void returnsEventsOlderThanAGivenEvent() {
+    RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(5);
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    ServeEvent three = anEvent("/3");
+    store.add(one);
+    store.add(two);
+    store.add(three);
+
+    assertThat(store.getAllAfter(three.getId()).collect(toList()), contains(two, one));
+    assertThat(store.getAllAfter(one.getId()).collect(toList()), empty());
+    assertThat(store.getAllAfter(anEvent("/4").getId()).collect(toList()), empty());
+  }
+
+  @Test
+  void returnsEventsOlderThanAGivenSequenceWhenItsEventHasBeenRemoved() {
+    RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(5);
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    ServeEvent three = anEvent("/3");
+    store.add(one);
+    store.add(two);
+    store.add(three);
+
+    long sequence = store.getSequence(two.getId()).getAsLong();
+    store.remove(two.getId());
+
+    assertThat(store.getSequence(two.getId()), is(OptionalLong.empty()));
+    assertThat(store.getAllOlderThan(sequence).collect(toList()), contains(one));
+    assertThat(store.getAllOlderThan(Long.MAX_VALUE).collect(toList()), contains(three, one));
+  }
+
+  @Test
+  void removesOldestEventOnRemoveLast() {
+    RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(3);
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    ServeEvent three = anEvent("/3");
+    store.add(one);
+    store.add(two);
+    store.add(three);
+
+    store.remove(one.getId());
+    store.removeLast();
+
+    assertThat(store.getAll().collect(toList()), contains(three));
+    assertThat(store.size(), is(1));
+  }
+
+  @Test
+  void replacesExistingEventsOnlyWhenPutting() {
+    RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(3);
+    ServeEvent event = anEvent("/1");
+    store.add(event);
+
+    ServeEvent completed = event.withResponseDefinition(ResponseDefinition.ok());
+    store.put(event.getId(), completed);
+    assertThat(store.get(event.getId()), is(Optional.of(completed)));
+
+    ServeEvent neverAdded = anEvent("/2");
+    store.put(neverAdded.getId(), neverAdded);
+    assertThat(store.get(neverAdded.getId()), is(Optional.empty()));
+    assertThat(store.size(), is(1));
+  }
+
+  @Test
+  void clearsAllEvents() {
+    RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(3);
+    ServeEvent event = anEvent("/1");
+    store.add(event);
+    store.add(anEvent("/2"));
+
+    store.clear();
+
+    assertThat(store.getAll().collect(toList()), empty());
+    assertThat(store.size(), is(0));
+    assertThat(store.get(event.getId()), is(Optional.empty()));
+
+    ServeEvent afterClear = anEvent("/3");
+    store.add(afterClear);
+    assertThat(store.getAll().collect(toList()), contains(afterClear));
+  }
+
+  @Test
+  void staysWithinCapacityUnderConcurrentWrites() throws Exception {
+    int capacity = 100;
+    RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(capacity);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch done = new CountDownLatch(8);
+
+    for (int thread = 0; thread < 8; thread++) {
+      executor.submit(
+          () -> {
+            for (int i = 0; i < 1000; i++) {
+              store.add(anEvent("/" + i));
+            }
+            done.countDown();
+          });
+    }
+    done.await(10, TimeUnit.SECONDS);
+    executor.shutdown();
+
+    List<ServeEvent> all = store.getAll().collect(toList());
+    assertThat(all.size(), is(capacity));
+    assertThat(store.size(), is(capacity));
+    all.forEach(event -> assertThat(store.get(event.getId()), is(Optional.of(event))));
+  }
+
+  @Test
+  void rejectsNonPositiveCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new RingBufferRequestJournalStore(0));
+  }
+
+  private static ServeEvent anEvent(String url) {
+    return ServeEvent.of(createFrom(aRequest().withUrl(url).build()));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.common.StreamSources.ByteBufferInputStreamSource;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileContentCacheTest {
+
+  @TempDir Path tempDir;
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void readsAFileOnceWhenItIsMissedConcurrently() throws Exception {
+    File file = write("one.txt", "one");
+    FileContentCache cache = new FileContentCache(1024);
+    CountDownLatch resolving = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger resolves = new AtomicInteger();
+
+    Future<Optional<ByteBufferInputStreamSource>> first =
+        executor.submit(
+            () ->
+                cache.get(
+                    "one",
+                    () -> {
+                      resolves.incrementAndGet();
+                      resolving.countDown();
+                      await(release);
+                      return file;
+                    }));
+    resolving.await(5, TimeUnit.SECONDS);
+    Future<Optional<ByteBufferInputStreamSource>> second =
+        executor.submit(
+            () ->
+                cache.get(
+                    "one",
+                    () -> {
+                      resolves.incrementAndGet();
+                      return file;
+                    }));
+    release.countDown();
+
+    assertThat(contentOf(first.get(5, TimeUnit.SECONDS)), is("one"));
+    assertThat(contentOf(second.get(5, TimeUnit.SECONDS)), is("one"));
+    assertThat(resolves.get(), is(1));
+  }
+
+  @Test
+  void loadsOtherKeysWhileAFileIsBeingRead() throws Exception {
+    File one = write("one.txt", "one");
+    File two = write("two.txt", "two");
+    FileContentCache cache = new FileContentCache(1024);
+    CountDownLatch resolving = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<Optional<ByteBufferInputStreamSource>> slow =
+        executor.submit(
+            () ->
+                cache.get(
+                    "one",
+                    () -> {
+                      resolving.countDown();
+                      await(release);
+                      return one;
+                    }));
+    resolving.await(5, TimeUnit.SECONDS);
+
+    Future<Optional<ByteBufferInputStreamSource>> other =
+        executor.submit(() -> cache.get("two", () -> two));
+    assertThat(contentOf(other.get(5, TimeUnit.SECONDS)), is("two"));
+
+    release.countDown();
+    assertThat(contentOf(slow.get(5, TimeUnit.SECONDS)), is("one"));
+  }
+
+  private File write(String name, String content) throws Exception {
+    return Files.writeString(tempDir.resolve(name), content).toFile();
+  }
+
+  private static String contentOf(Optional<ByteBufferInputStreamSource> source) throws Exception {
+    try (InputStream stream = source.orElseThrow().getStream()) {
+      return new String(stream.readAllBytes(), UTF_8);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
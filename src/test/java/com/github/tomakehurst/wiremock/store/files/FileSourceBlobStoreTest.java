@@ -15,12 +15,24 @@
  */
 package com.github.tomakehurst.wiremock.store.files;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.common.StreamSources.ByteBufferInputStreamSource;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class FileSourceBlobStoreTest {
   private static final String DIRECTORY_PATH =
@@ -47,4 +59,73 @@ class FileSourceBlobStoreTest {
           assertEquals(Optional.empty(), result);
         });
   }
+
+  @Test
+  public void servesBodyFilesFromMemoryWhenCachingIsEnabled(@TempDir Path root) throws Exception {
+    Files.write(root.resolve("body.json"), "{}".getBytes(UTF_8));
+    FileSourceBlobStore store =
+        new FileSourceBlobStore(new SingleRootFileSource(root.toString()), 1024);
+
+    InputStreamSource first = store.getStreamSource("body.json");
+
+    assertThat(first, instanceOf(ByteBufferInputStreamSource.class));
+    assertThat(store.getStreamSource("body.json"), sameInstance(first));
+    assertThat(contentOf(first), is("{}"));
+  }
+
+  @Test
+  public void reReadsBodyFilesWrittenThroughTheStore(@TempDir Path root) throws Exception {
+    Files.write(root.resolve("body.txt"), "before".getBytes(UTF_8));
+    FileSourceBlobStore store =
+        new FileSourceBlobStore(new SingleRootFileSource(root.toString()), 1024);
+    store.getStreamSource("body.txt");
+
+    store.put("body.txt", "after".getBytes(UTF_8));
+
+    assertThat(contentOf(store.getStreamSource("body.txt")), is("after"));
+  }
+
+  @Test
+  public void reReadsBodyFilesChangedOnDisk(@TempDir Path root) throws Exception {
+    Path file = root.resolve("body.txt");
+    Files.write(file, "before".getBytes(UTF_8));
+    FileSourceBlobStore store =
+        new FileSourceBlobStore(new SingleRootFileSource(root.toString()), 1024);
+    store.getStreamSource("body.txt");
+
+    Files.write(file, "after, and longer".getBytes(UTF_8));
+
+    assertThat(contentOf(store.getStreamSource("body.txt")), is("after, and longer"));
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedBodyFilesWhenFull(@TempDir Path root) throws Exception {
+    Files.write(root.resolve("one.txt"), "1111".getBytes(UTF_8));
+    Files.write(root.resolve("two.txt"), "2222".getBytes(UTF_8));
+    FileSourceBlobStore store =
+        new FileSourceBlobStore(new SingleRootFileSource(root.toString()), 6);
+
+    InputStreamSource one = store.getStreamSource("one.txt");
+    store.getStreamSource("two.txt");
+
+    assertThat(store.getStreamSource("one.txt"), not(sameInstance(one)));
+  }
+
+  @Test
+  public void doesNotCacheBodyFilesLargerThanTheCache(@TempDir Path root) throws Exception {
+    Files.write(root.resolve("big.txt"), "too big to cache".getBytes(UTF_8));
+    FileSourceBlobStore store =
+        new FileSourceBlobStore(new SingleRootFileSource(root.toString()), 4);
+
+    InputStreamSource source = store.getStreamSource("big.txt");
+
+    assertThat(source, not(instanceOf(ByteBufferInputStreamSource.class)));
+    assertThat(contentOf(source), is("too big to cache"));
+  }
+
+  private static String contentOf(InputStreamSource source) throws Exception {
+    try (InputStream stream = source.getStream()) {
+      return new String(stream.readAllBytes(), UTF_8);
+    }
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2022 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,14 @@ import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -442,4 +449,62 @@ public class ScenariosTest {
     assertThat(possibleStates, hasItems("A", "B", "C", "D"));
     assertThat(possibleStates.size(), is(4));
   }
+
+  @Test
+  public void compareAndTransitionOnlyTransitionsFromTheRequiredState() {
+    StubMapping mapping1 =
+        get("/scenarios/1")
+            .inScenario("one")
+            .whenScenarioStateIs(STARTED)
+            .willSetStateTo("step_2")
+            .willReturn(ok())
+            .build();
+    StubMapping mapping2 =
+        get("/scenarios/1")
+            .inScenario("one")
+            .whenScenarioStateIs("step_2")
+            .willReturn(ok())
+            .build();
+    scenarios.onStubMappingAdded(mapping1);
+    scenarios.onStubMappingAdded(mapping2);
+
+    assertThat(scenarios.compareAndTransition(mapping2), is(false));
+    assertThat(scenarios.compareAndTransition(mapping1), is(true));
+    assertThat(scenarios.getByName("one").getState(), is("step_2"));
+    assertThat(scenarios.compareAndTransition(mapping1), is(false));
+    assertThat(scenarios.compareAndTransition(mapping2), is(true));
+    assertThat(scenarios.getByName("one").getState(), is("step_2"));
+  }
+
+  @Test
+  public void onlyOneConcurrentCompareAndTransitionSucceeds() throws Exception {
+    StubMapping mapping =
+        get("/scenarios/1")
+            .inScenario("one")
+            .whenScenarioStateIs(STARTED)
+            .willSetStateTo("step_2")
+            .willReturn(ok())
+            .build();
+    scenarios.onStubMappingAdded(mapping);
+
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      List<Callable<Boolean>> attempts =
+          IntStream.range(0, 64)
+              .<Callable<Boolean>>mapToObj(i -> () -> scenarios.compareAndTransition(mapping))
+              .collect(Collectors.toList());
+
+      long successes = 0;
+      for (Future<Boolean> result : executor.invokeAll(attempts)) {
+        if (result.get()) {
+          successes++;
+        }
+      }
+
+      assertThat(successes, is(1L));
+      assertThat(scenarios.getByName("one").getState(), is("step_2"));
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
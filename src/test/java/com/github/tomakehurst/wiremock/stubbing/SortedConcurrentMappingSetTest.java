@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,8 @@ import static org.hamcrest.Matchers.is;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import java.util.Iterator;
+import java.util.Optional;
+import java.util.UUID;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -134,6 +136,56 @@ public class SortedConcurrentMappingSetTest {
     assertThat(it.hasNext(), is(false));
   }
 
+  @Test
+  public void getsMappingsById() {
+    StubMapping one = aMapping(1, "/1");
+    StubMapping two = aMapping(1, "/2");
+    mappingSet.add(one);
+    mappingSet.add(two);
+
+    assertThat(mappingSet.get(two.getId()), is(Optional.of(two)));
+    assertThat(mappingSet.get(UUID.randomUUID()), is(Optional.empty()));
+    assertThat(mappingSet.get(null), is(Optional.empty()));
+  }
+
+  @Test
+  public void removesOnlyTheMappingWithTheGivenId() {
+    StubMapping one = aMapping(1, "/1");
+    StubMapping two = aMapping(1, "/2");
+    mappingSet.add(one);
+    mappingSet.add(two);
+
+    assertThat(mappingSet.remove(one.getId()), is(true));
+    assertThat(mappingSet.remove(one.getId()), is(false));
+
+    assertThat(mappingSet.get(one.getId()), is(Optional.empty()));
+    Iterator<StubMapping> it = mappingSet.iterator();
+    assertThat(it.next(), is(two));
+    assertThat(it.hasNext(), is(false));
+  }
+
+  @Test
+  public void removesMappingWhosePriorityChangedAfterBeingAdded() {
+    StubMapping mapping = aMapping(1, "/1");
+    mappingSet.add(mapping);
+    mapping.setPriority(7);
+
+    assertThat(mappingSet.remove(mapping.getId()), is(true));
+    assertThat(mappingSet.iterator().hasNext(), is(false));
+  }
+
+  @Test
+  public void replacedMappingIsReturnedWhenGettingById() {
+    StubMapping existingMapping = aMapping(1, "/priority1/1");
+    mappingSet.add(existingMapping);
+
+    StubMapping newMapping = aMapping(2, "/priority2/1");
+    newMapping.setId(existingMapping.getId());
+    mappingSet.replace(existingMapping, newMapping);
+
+    assertThat(mappingSet.get(existingMapping.getId()), is(Optional.of(newMapping)));
+  }
+
   private StubMapping aMapping(Integer priority, String url) {
     RequestPattern requestPattern = newRequestPattern(ANY, urlEqualTo(url)).build();
     StubMapping mapping = new StubMapping(requestPattern, new ResponseDefinition());
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathTemplate;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.ANY;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET_OR_HEAD;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.HEAD;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StubMappingRequestIndexTest {
+
+  private StubMappingRequestIndex index;
+  private long insertionCount;
+
+  @BeforeEach
+  public void init() {
+    index = new StubMappingRequestIndex();
+  }
+
+  @Test
+  public void returnsOnlyStubsWithMatchingMethodAndLiteralUrl() {
+    StubMapping getThing = add(GET, urlEqualTo("/thing?a=1"));
+    add(POST, urlEqualTo("/thing?a=1"));
+    add(GET, urlEqualTo("/other-thing"));
+    StubMapping getThingPath = add(GET, urlPathEqualTo("/thing"));
+
+    assertThat(candidatesFor(GET, "/thing?a=1"), contains(getThingPath, getThing));
+  }
+
+  @Test
+  public void alwaysIncludesAnyMethodAndNonLiteralUrlStubs() {
+    StubMapping anyMethod = add(ANY, urlEqualTo("/thing"));
+    StubMapping regex = add(GET, urlMatching("/th.*"));
+    StubMapping anything = add(ANY, anyUrl());
+    add(POST, urlMatching("/th.*"));
+
+    assertThat(candidatesFor(GET, "/thing"), contains(anything, regex, anyMethod));
+  }
+
+  @Test
+  public void findsPathTemplateStubsByTheirLiteralPrefix() {
+    StubMapping shallow = add(GET, urlPathTemplate("/things/{id}"));
+    StubMapping deep = add(GET, urlPathTemplate("/api/v1/things/{id}/parts"));
+    StubMapping wildcard = add(GET, urlPathTemplate("/api/**"));
+
+    assertThat(candidatesFor(GET, "/things/123?q=1"), contains(shallow));
+    assertThat(candidatesFor(GET, "/api/v1/things/123/parts"), contains(wildcard, deep));
+    assertThat(candidatesFor(GET, "/stuff/123"), empty());
+  }
+
+  @Test
+  public void getOrHeadStubsAreCandidatesForBothMethods() {
+    StubMapping getOrHead = add(GET_OR_HEAD, urlEqualTo("/thing"));
+
+    assertThat(candidatesFor(GET, "/thing"), contains(getOrHead));
+    assertThat(candidatesFor(HEAD, "/thing"), contains(getOrHead));
+    assertThat(candidatesFor(POST, "/thing"), empty());
+  }
+
+  @Test
+  public void returnsCandidatesInPriorityThenReverseInsertionOrderAcrossBuckets() {
+    StubMapping one = add(GET, urlEqualTo("/thing"), 3);
+    StubMapping two = add(ANY, anyUrl(), 3);
+    StubMapping three = add(GET, urlPathEqualTo("/thing"), 1);
+    StubMapping four = add(ANY, urlEqualTo("/thing"), 5);
+    StubMapping five = add(GET, urlMatching(".*"), null);
+
+    assertThat(candidatesFor(GET, "/thing"), contains(three, two, one, five, four));
+  }
+
+  @Test
+  public void removedStubsAreNoLongerCandidates() {
+    StubMapping one = add(GET, urlEqualTo("/thing"));
+    StubMapping two = add(GET, anyUrl());
+
+    index.remove(one);
+    assertThat(candidatesFor(GET, "/thing"), contains(two));
+
+    index.clear();
+    assertThat(candidatesFor(GET, "/thing"), empty());
+  }
+
+  @Test
+  public void removesStubsWhosePriorityHasChangedSinceTheyWereAdded() {
+    StubMapping one = add(GET, urlEqualTo("/thing"), 5);
+    StubMapping two = add(GET, anyUrl(), 5);
+    StubMapping three = add(GET, urlEqualTo("/thing"), 3);
+
+    one.setPriority(1);
+    two.setPriority(1);
+    index.remove(one);
+    index.remove(two);
+
+    assertThat(candidatesFor(GET, "/thing"), contains(three));
+  }
+
+  private StubMapping add(RequestMethod method, UrlPattern urlPattern) {
+    return add(method, urlPattern, null);
+  }
+
+  private StubMapping add(RequestMethod method, UrlPattern urlPattern, Integer priority) {
+    StubMapping mapping =
+        new StubMapping(newRequestPattern(method, urlPattern).build(), new ResponseDefinition());
+    mapping.setPriority(priority);
+    mapping.setInsertionIndex(insertionCount++);
+    index.add(mapping);
+    return mapping;
+  }
+
+  private List<StubMapping> candidatesFor(RequestMethod method, String url) {
+    return index
+        .findCandidatesFor(aRequest().withMethod(method).withUrl(url).build())
+        .collect(toList());
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.matching.RequestPattern.everything;
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.InMemoryRequestJournalTest.NO_CUSTOM_MATCHERS;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.common.AsynchronousRequestJournalSettings;
+import com.github.tomakehurst.wiremock.common.AsynchronousRequestJournalSettings.OverflowPolicy;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsynchronousRequestJournalTest {
+
+  private AsynchronousRequestJournal journal;
+
+  @AfterEach
+  public void shutdown() {
+    if (journal != null) {
+      journal.shutdown();
+    }
+  }
+
+  @Test
+  public void verificationSeesEveryRequestReceivedBeforeIt() throws Exception {
+    journal = asyncJournal(16, OverflowPolicy.BLOCK);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      futures.add(executor.submit(() -> journal.requestReceived(serveEventFor("/async"))));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    assertThat(
+        journal.countRequestsMatching(getRequestedFor(urlEqualTo("/async")).build()), is(1000));
+  }
+
+  @Test
+  public void completedServeEventIsWrittenAfterTheReceivedOne() {
+    journal = asyncJournal(16, OverflowPolicy.BLOCK);
+
+    ServeEvent serveEvent = serveEventFor("/completed");
+    journal.requestReceived(serveEvent);
+    journal.serveCompleted(serveEvent);
+
+    assertThat(journal.getServeEvent(serveEvent.getId()).isPresent(), is(true));
+    assertThat(journal.countRequestsMatching(everything()), is(1));
+  }
+
+  @Test
+  public void dropNewestPolicyDropsIncomingWritesWhenQueueIsFull() throws Exception {
+    CountDownLatch writeStarted = new CountDownLatch(1);
+    CountDownLatch releaseWrite = new CountDownLatch(1);
+    journal =
+        new AsynchronousRequestJournal(
+            stallingJournal(writeStarted, releaseWrite),
+            new AsynchronousRequestJournalSettings(true, 1, OverflowPolicy.DROP_NEWEST));
+
+    journal.requestReceived(serveEventFor("/dropped"));
+    writeStarted.await();
+    for (int i = 0; i < 10; i++) {
+      journal.requestReceived(serveEventFor("/dropped"));
+    }
+    releaseWrite.countDown();
+
+    assertThat(journal.countRequestsMatching(everything()), is(2));
+    assertThat(journal.getDroppedWrites(), is(9L));
+  }
+
+  @Test
+  public void blockPolicyCountsTheWriteAndKeepsTheInterruptWhenInterruptedWhileWaiting()
+      throws Exception {
+    CountDownLatch writeStarted = new CountDownLatch(1);
+    CountDownLatch releaseWrite = new CountDownLatch(1);
+    journal =
+        new AsynchronousRequestJournal(
+            stallingJournal(writeStarted, releaseWrite),
+            new AsynchronousRequestJournalSettings(true, 1, OverflowPolicy.BLOCK));
+
+    journal.requestReceived(serveEventFor("/blocked"));
+    writeStarted.await();
+    journal.requestReceived(serveEventFor("/blocked"));
+
+    Thread.currentThread().interrupt();
+    journal.requestReceived(serveEventFor("/blocked"));
+    assertThat(Thread.interrupted(), is(true));
+    releaseWrite.countDown();
+
+    assertThat(journal.countRequestsMatching(everything()), is(2));
+    assertThat(journal.getDroppedWrites(), is(1L));
+  }
+
+  @Test
+  public void flushesOnShutdownAndStartsWritingAgainOnTheNextWrite() {
+    InMemoryRequestJournal delegate = new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS);
+    journal =
+        new AsynchronousRequestJournal(
+            delegate, new AsynchronousRequestJournalSettings(true, 16, OverflowPolicy.BLOCK));
+
+    journal.requestReceived(serveEventFor("/before"));
+    journal.shutdown();
+    assertThat(delegate.countRequestsMatching(everything()), is(1));
+
+    journal.requestReceived(serveEventFor("/after"));
+    await().until(() -> delegate.countRequestsMatching(everything()), is(2));
+  }
+
+  @Test
+  public void resetDiscardsPendingWrites() {
+    journal = asyncJournal(16, OverflowPolicy.BLOCK);
+
+    journal.requestReceived(serveEventFor("/reset"));
+    journal.reset();
+
+    assertThat(journal.countRequestsMatching(everything()), is(0));
+  }
+
+  private static RequestJournal stallingJournal(
+      CountDownLatch writeStarted, CountDownLatch releaseWrite) {
+    return new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS) {
+      @Override
+      public void requestReceived(ServeEvent serveEvent) {
+        writeStarted.countDown();
+        try {
+          releaseWrite.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        super.requestReceived(serveEvent);
+      }
+    };
+  }
+
+  private static AsynchronousRequestJournal asyncJournal(
+      int queueSize, OverflowPolicy overflowPolicy) {
+    return new AsynchronousRequestJournal(
+        new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS),
+        new AsynchronousRequestJournalSettings(true, queueSize, overflowPolicy));
+  }
+
+  private static ServeEvent serveEventFor(String url) {
+    return ServeEvent.of(createFrom(aRequest().withUrl(url).build()));
+  }
+}
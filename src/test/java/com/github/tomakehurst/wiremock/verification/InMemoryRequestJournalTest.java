@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014-2023 Thomas Akehurst
+ * Copyright (C) 2014-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +20,19 @@ import static com.github.tomakehurst.wiremock.matching.RequestMatcherExtension.A
 import static com.github.tomakehurst.wiremock.matching.RequestPattern.everything;
 import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
 import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 
 import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.store.InMemoryRequestJournalStore;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.Collections;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -112,6 +119,91 @@ public class InMemoryRequestJournalTest {
         is(0));
   }
 
+  @Test
+  public void narrowsVerificationQueriesByMethodAndUrlPath() {
+    RequestJournal journal = indexedJournal();
+    ServeEvent getThings = anEvent(RequestMethod.GET, "/things?page=1");
+    ServeEvent postThings = anEvent(RequestMethod.POST, "/things");
+    ServeEvent getOther = anEvent(RequestMethod.GET, "/other");
+    journal.requestReceived(getThings);
+    journal.requestReceived(postThings);
+    journal.requestReceived(getOther);
+
+    assertThat(
+        journal.countRequestsMatching(getRequestedFor(urlPathEqualTo("/things")).build()), is(1));
+    assertThat(
+        journal.countRequestsMatching(postRequestedFor(urlEqualTo("/things")).build()), is(1));
+    assertThat(
+        journal.countRequestsMatching(getRequestedFor(urlEqualTo("/things")).build()), is(0));
+    assertThat(
+        journal
+            .getRequestsMatching(getRequestedFor(urlMatching("/.*")).build())
+            .stream()
+            .map(LoggedRequest::getUrl)
+            .collect(toList()),
+        contains("/things?page=1", "/other"));
+    assertThat(
+        journal.countRequestsMatching(anyRequestedFor(urlPathEqualTo("/things")).build()), is(2));
+  }
+
+  @Test
+  public void removesMatchingEventsFromTheIndexes() {
+    RequestJournal journal = indexedJournal();
+    journal.requestReceived(anEvent(RequestMethod.GET, "/things"));
+    journal.requestReceived(anEvent(RequestMethod.POST, "/things"));
+
+    assertThat(
+        journal.removeEventsMatching(getRequestedFor(urlPathEqualTo("/things")).build()).size(),
+        is(1));
+
+    assertThat(
+        journal.countRequestsMatching(getRequestedFor(urlPathEqualTo("/things")).build()), is(0));
+    assertThat(
+        journal.countRequestsMatching(anyRequestedFor(urlEqualTo("/things")).build()), is(1));
+  }
+
+  @Test
+  public void findsServeEventsByTheStubThatServedThem() {
+    RequestJournal journal = indexedJournal();
+    StubMapping stub = get("/things").willReturn(ok()).build();
+    ServeEvent matched =
+        anEvent(RequestMethod.GET, "/things")
+            .withStubMapping(stub)
+            .withResponseDefinition(ResponseDefinition.ok());
+    journal.requestReceived(matched);
+    journal.requestReceived(anEvent(RequestMethod.GET, "/unmatched"));
+
+    assertThat(journal.getServeEventsForStub(stub.getId()), contains(matched));
+
+    journal.removeEvent(matched.getId());
+    assertThat(journal.getServeEventsForStub(stub.getId()), empty());
+  }
+
+  @Test
+  public void findsServeEventsByTheStubThatServedThemWithoutTheIndexes() {
+    RequestJournal journal = new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS);
+    StubMapping stub = get("/things").willReturn(ok()).build();
+    ServeEvent matched =
+        anEvent(RequestMethod.GET, "/things")
+            .withStubMapping(stub)
+            .withResponseDefinition(ResponseDefinition.ok());
+    journal.requestReceived(matched);
+    journal.requestReceived(anEvent(RequestMethod.GET, "/unmatched"));
+
+    assertThat(journal.getServeEventsForStub(stub.getId()), contains(matched));
+    assertThat(
+        journal.countRequestsMatching(getRequestedFor(urlPathEqualTo("/things")).build()), is(1));
+  }
+
+  private static RequestJournal indexedJournal() {
+    return new StoreBackedRequestJournal(
+        null, NO_CUSTOM_MATCHERS, new InMemoryRequestJournalStore(true));
+  }
+
+  private static ServeEvent anEvent(RequestMethod method, String url) {
+    return ServeEvent.of(createFrom(aRequest().withMethod(method).withUrl(url).build()));
+  }
+
   private void assertOnlyLastTwoRequestsLeft(RequestJournal journal) {
     assertThat(
         journal.countRequestsMatching(getRequestedFor(urlEqualTo("/logging1")).build()), is(0));
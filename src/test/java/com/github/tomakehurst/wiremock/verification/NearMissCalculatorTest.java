@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -180,6 +180,24 @@ public class NearMissCalculatorTest {
     assertThat(nearest.get(1).getStubMapping().getRequest().getUrl(), is("/otherpath"));
   }
 
+  @Test
+  public void returnsNearestMissesInStubOrderWhenSearchingManyStubs() {
+    MappingBuilder[] mappingBuilders = new MappingBuilder[5000];
+    for (int i = 0; i < mappingBuilders.length; i++) {
+      String url = i == 3210 ? "/righ" : "/totally-wrong";
+      mappingBuilders[i] = get(urlEqualTo(url)).withName("stub-" + i).willReturn(aResponse());
+    }
+    givenStubMappings(mappingBuilders);
+
+    List<NearMiss> nearest =
+        nearMissCalculator.findNearestTo(mockRequest().url("/right").asLoggedRequest());
+
+    assertThat(nearest.size(), is(NEAR_MISS_COUNT));
+    assertThat(nearest.get(0).getStubMapping().getName(), is("stub-3210"));
+    assertThat(nearest.get(1).getStubMapping().getName(), is("stub-0"));
+    assertThat(nearest.get(2).getStubMapping().getName(), is("stub-1"));
+  }
+
   private void givenStubMappings(final MappingBuilder... mappingBuilders) {
     final List<StubMapping> mappings =
         Arrays.stream(mappingBuilders).map(MappingBuilder::build).collect(Collectors.toList());
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.common.Metadata.metadata;
+import static com.github.tomakehurst.wiremock.matching.RequestPattern.everything;
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.InMemoryRequestJournalTest.NO_CUSTOM_MATCHERS;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.github.tomakehurst.wiremock.common.RequestJournalSamplingSettings;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class SamplingRequestJournalTest {
+
+  private static final StubMapping STUB = get("/things").willReturn(ok()).build();
+
+  @Test
+  public void journalsEveryRequestByDefault() {
+    RequestJournal journal = samplingJournal(RequestJournalSamplingSettings.ALL);
+
+    for (int i = 0; i < 10; i++) {
+      journal.requestReceived(matchedEvent(STUB));
+    }
+
+    assertThat(journal.countRequestsMatching(everything()), is(10));
+  }
+
+  @Test
+  public void journalsRoughlyOneInEveryNMatchedRequests() {
+    RequestJournal journal = samplingJournal(new RequestJournalSamplingSettings(10, 0));
+
+    for (int i = 0; i < 10_000; i++) {
+      journal.requestReceived(matchedEvent(STUB));
+    }
+
+    assertThat(
+        journal.countRequestsMatching(everything()), allOf(greaterThan(800), lessThan(1200)));
+  }
+
+  @Test
+  public void alwaysJournalsUnmatchedRequests() {
+    RequestJournal journal = samplingJournal(new RequestJournalSamplingSettings(1000, 1));
+
+    for (int i = 0; i < 10; i++) {
+      journal.requestReceived(unmatchedEvent());
+    }
+
+    assertThat(journal.countRequestsMatching(everything()), is(10));
+  }
+
+  @Test
+  public void limitsMatchedRequestsJournalledEachSecond() {
+    AtomicLong clock = new AtomicLong(10_000);
+    RequestJournal journal =
+        new SamplingRequestJournal(
+            new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS),
+            new RequestJournalSamplingSettings(1, 3),
+            clock::get);
+
+    for (int i = 0; i < 10; i++) {
+      journal.requestReceived(matchedEvent(STUB));
+    }
+    assertThat(journal.countRequestsMatching(everything()), is(3));
+
+    clock.addAndGet(1000);
+    for (int i = 0; i < 10; i++) {
+      journal.requestReceived(matchedEvent(STUB));
+    }
+    assertThat(journal.countRequestsMatching(everything()), is(6));
+  }
+
+  @Test
+  public void doesNotPassOnCompletionOfRequestsDroppedByTheRateLimit() {
+    AtomicLong clock = new AtomicLong(10_000);
+    RequestJournal delegate = mock(RequestJournal.class);
+    RequestJournal journal =
+        new SamplingRequestJournal(delegate, new RequestJournalSamplingSettings(1, 1), clock::get);
+
+    ServeEvent journalled = matchedEvent(STUB);
+    ServeEvent dropped = matchedEvent(STUB);
+    journal.requestReceived(journalled);
+    journal.requestReceived(dropped);
+    clock.addAndGet(1000);
+    journal.serveCompleted(journalled);
+    journal.serveCompleted(dropped);
+
+    verify(delegate).serveCompleted(journalled);
+    verify(delegate, never()).serveCompleted(dropped);
+  }
+
+  @Test
+  public void doesNotJournalRequestsForStubsThatOptOut() {
+    RequestJournal journal = samplingJournal(RequestJournalSamplingSettings.ALL);
+    StubMapping optedOut =
+        get("/quiet")
+            .willReturn(ok())
+            .withMetadata(
+                metadata().attr(SamplingRequestJournal.JOURNAL_REQUESTS_METADATA_KEY, false))
+            .build();
+
+    ServeEvent serveEvent = matchedEvent(optedOut);
+    journal.requestReceived(serveEvent);
+    journal.serveCompleted(serveEvent);
+    journal.requestReceived(matchedEvent(STUB));
+
+    assertThat(journal.countRequestsMatching(everything()), is(1));
+    assertThat(journal.getServeEvent(serveEvent.getId()).isPresent(), is(false));
+  }
+
+  private static RequestJournal samplingJournal(RequestJournalSamplingSettings settings) {
+    return new SamplingRequestJournal(
+        new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS), settings);
+  }
+
+  private static ServeEvent matchedEvent(StubMapping stub) {
+    return ServeEvent.of(createFrom(aRequest().withUrl(stub.getRequest().getUrl()).build()))
+        .withStubMapping(stub)
+        .withResponseDefinition(ResponseDefinition.ok());
+  }
+
+  private static ServeEvent unmatchedEvent() {
+    return ServeEvent.of(createFrom(aRequest().withUrl("/unmatched").build()))
+        .withResponseDefinition(ResponseDefinition.notConfigured());
+  }
+}
@@ -48,6 +48,7 @@ import com.github.tomakehurst.wiremock.verification.*;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public class WireMockServer implements Container, Stubbing, Admin {
 
@@ -156,6 +157,7 @@ public class WireMockServer implements Container, Stubbing, Admin {
   }
 
   public void stop() {
+    wireMockApp.stop();
     httpServer.stop();
   }
 
@@ -167,6 +169,8 @@ public class WireMockServer implements Container, Stubbing, Admin {
     } catch (Exception e) {
       throw new FatalStartupException(e);
     }
+
+    wireMockApp.startWatchingMappings();
   }
 
   /**
@@ -362,6 +366,11 @@ public class WireMockServer implements Container, Stubbing, Admin {
     return wireMockApp.listAllStubMappings();
   }
 
+  @Override
+  public Stream<StubMapping> streamStubMappings() {
+    return wireMockApp.streamStubMappings();
+  }
+
   @Override
   public SingleStubMappingResult getStubMapping(UUID id) {
     return wireMockApp.getStubMapping(id);
@@ -397,6 +406,16 @@ public class WireMockServer implements Container, Stubbing, Admin {
     return wireMockApp.getServeEvents(query);
   }
 
+  @Override
+  public Stream<ServeEvent> streamServeEvents(ServeEventQuery query, ServeEventCursor cursor) {
+    return wireMockApp.streamServeEvents(query, cursor);
+  }
+
+  @Override
+  public ServeEventCursor cursorAfter(ServeEvent serveEvent) {
+    return wireMockApp.cursorAfter(serveEvent);
+  }
+
   @Override
   public SingleServedStubResult getServedStub(UUID id) {
     return wireMockApp.getServedStub(id);
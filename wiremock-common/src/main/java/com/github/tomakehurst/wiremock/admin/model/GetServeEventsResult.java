@@ -24,16 +24,25 @@ import java.util.List;
 
 public class GetServeEventsResult extends RequestJournalDependentResult<ServeEvent> {
 
+  private final String nextCursor;
+
   @JsonCreator
   public GetServeEventsResult(
       @JsonProperty("requests") List<ServeEvent> source,
       @JsonProperty("meta") Meta meta,
-      @JsonProperty("requestJournalDisabled") boolean requestJournalDisabled) {
+      @JsonProperty("requestJournalDisabled") boolean requestJournalDisabled,
+      @JsonProperty("nextCursor") String nextCursor) {
     super(source, meta, requestJournalDisabled);
+    this.nextCursor = nextCursor;
+  }
+
+  public GetServeEventsResult(List<ServeEvent> source, Meta meta, boolean requestJournalDisabled) {
+    this(source, meta, requestJournalDisabled, null);
   }
 
   public GetServeEventsResult(Paginator<ServeEvent> paginator, boolean requestJournalDisabled) {
     super(paginator, requestJournalDisabled);
+    this.nextCursor = null;
   }
 
   public static GetServeEventsResult requestJournalEnabled(Paginator<ServeEvent> paginator) {
@@ -52,4 +61,12 @@ public class GetServeEventsResult extends RequestJournalDependentResult<ServeEve
   public List<ServeEvent> getServeEvents() {
     return select();
   }
+
+  /**
+   * Where the next page starts, i.e. the value to pass as the {@code cursor} query parameter, when
+   * this page was cut short by its limit. Null on the last page.
+   */
+  public String getNextCursor() {
+    return nextCursor;
+  }
 }
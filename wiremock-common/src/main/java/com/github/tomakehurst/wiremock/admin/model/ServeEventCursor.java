@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.admin.model;
+
+import com.github.tomakehurst.wiremock.common.Errors;
+import com.github.tomakehurst.wiremock.common.InvalidInputException;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Marks a position in the request journal for paging through it, newest first. The next page
+ * starts with the event after the one the cursor was taken from. If that event has since been
+ * removed from the journal, the page starts with the first event added before it instead, going by
+ * the journal's sequence number for the event where it has one, or by the time it was logged where
+ * it doesn't.
+ *
+ * <p>Clients should treat the cursor's string form as opaque.
+ */
+public class ServeEventCursor {
+
+  public static final String QUERY_PARAMETER = "cursor";
+
+  private static final long NO_SEQUENCE = -1;
+  private static final int ENCODED_BYTES = 8 + 8 + 8 + 8;
+
+  private final UUID eventId;
+  private final long sequence;
+  private final long loggedDateMillis;
+
+  private ServeEventCursor(UUID eventId, long sequence, long loggedDateMillis) {
+    this.eventId = eventId;
+    this.sequence = sequence;
+    this.loggedDateMillis = loggedDateMillis;
+  }
+
+  public static ServeEventCursor after(ServeEvent serveEvent) {
+    return after(serveEvent, OptionalLong.empty());
+  }
+
+  public static ServeEventCursor after(ServeEvent serveEvent, OptionalLong sequence) {
+    return new ServeEventCursor(
+        serveEvent.getId(),
+        sequence.orElse(NO_SEQUENCE),
+        serveEvent.getRequest().getLoggedDate().getTime());
+  }
+
+  public static ServeEventCursor fromRequest(Request request) {
+    final QueryParameter parameter = request.queryParameter(QUERY_PARAMETER);
+    return parameter.isPresent() ? parse(parameter.firstValue()) : null;
+  }
+
+  public static ServeEventCursor parse(String value) {
+    final byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(value);
+    } catch (IllegalArgumentException e) {
+      throw invalid(value);
+    }
+
+    if (bytes.length != ENCODED_BYTES) {
+      throw invalid(value);
+    }
+
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new ServeEventCursor(
+        new UUID(buffer.getLong(), buffer.getLong()), buffer.getLong(), buffer.getLong());
+  }
+
+  private static InvalidInputException invalid(String value) {
+    return new InvalidInputException(
+        Errors.validation(QUERY_PARAMETER, value + " is not a valid cursor"));
+  }
+
+  public UUID getEventId() {
+    return eventId;
+  }
+
+  /** The journal's sequence number for the cursor's event, if the journal numbers its events. */
+  public OptionalLong getSequence() {
+    return sequence != NO_SEQUENCE ? OptionalLong.of(sequence) : OptionalLong.empty();
+  }
+
+  /**
+   * Skips the given events, newest first, up to and including the cursor's event, or up to the
+   * first one logged before it if it's not there.
+   */
+  public Stream<ServeEvent> skipTo(Stream<ServeEvent> events) {
+    return events
+        .dropWhile(
+            event ->
+                !eventId.equals(event.getId())
+                    && event.getRequest().getLoggedDate().getTime() >= loggedDateMillis)
+        .filter(event -> !eventId.equals(event.getId()));
+  }
+
+  @Override
+  public String toString() {
+    final ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES);
+    buffer
+        .putLong(eventId.getMostSignificantBits())
+        .putLong(eventId.getLeastSignificantBits())
+        .putLong(sequence)
+        .putLong(loggedDateMillis);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+}
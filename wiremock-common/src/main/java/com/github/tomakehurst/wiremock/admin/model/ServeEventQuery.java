@@ -27,6 +27,7 @@ import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class ServeEventQuery {
 
@@ -89,6 +90,14 @@ public class ServeEventQuery {
       return events;
     }
 
+    return filter(events.stream()).collect(toList());
+  }
+
+  public Stream<ServeEvent> filter(Stream<ServeEvent> events) {
+    if (!onlyUnmatched && stubMappingId == null) {
+      return events;
+    }
+
     final Predicate<ServeEvent> matchPredicate =
         onlyUnmatched ? serveEvent -> !serveEvent.getWasMatched() : serveEvent -> true;
 
@@ -99,6 +108,6 @@ public class ServeEventQuery {
                     && serveEvent.getStubMapping().getId().equals(stubMappingId)
             : serveEvent -> true;
 
-    return events.stream().filter(matchPredicate).filter(stubPredicate).collect(toList());
+    return events.filter(matchPredicate).filter(stubPredicate);
   }
 }
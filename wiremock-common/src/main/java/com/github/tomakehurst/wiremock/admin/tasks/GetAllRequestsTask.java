@@ -15,43 +15,64 @@
  */
 package com.github.tomakehurst.wiremock.admin.tasks;
 
+import static com.github.tomakehurst.wiremock.admin.Conversions.toDate;
+import static com.github.tomakehurst.wiremock.admin.Conversions.toInt;
 import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.jsonResponse;
 import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
+import static com.github.tomakehurst.wiremock.common.ParameterUtils.checkParameter;
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_OK;
 
 import com.github.tomakehurst.wiremock.admin.AdminTask;
-import com.github.tomakehurst.wiremock.admin.LimitAndSinceDatePaginator;
 import com.github.tomakehurst.wiremock.admin.model.GetServeEventsResult;
+import com.github.tomakehurst.wiremock.admin.model.PaginatedResult.Meta;
+import com.github.tomakehurst.wiremock.admin.model.ServeEventCursor;
 import com.github.tomakehurst.wiremock.admin.model.ServeEventQuery;
 import com.github.tomakehurst.wiremock.common.InvalidInputException;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.http.Body;
+import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.RequestJournalDisabledException;
+import java.util.Date;
+import java.util.List;
 
 public class GetAllRequestsTask implements AdminTask {
 
   @Override
   public ResponseDefinition execute(Admin admin, ServeEvent serveEvent, PathParams pathParams) {
-    ServeEventQuery query = ServeEventQuery.fromRequest(serveEvent.getRequest());
-    GetServeEventsResult serveEventsResult = admin.getServeEvents(query);
-    LimitAndSinceDatePaginator paginator;
+    Request request = serveEvent.getRequest();
+    ServeEventQuery query = ServeEventQuery.fromRequest(request);
+    ServeEventCursor cursor;
+    Integer limit;
+    Date since;
     try {
-      paginator =
-          LimitAndSinceDatePaginator.fromRequest(
-              serveEventsResult.getRequests(), serveEvent.getRequest());
+      cursor = ServeEventCursor.fromRequest(request);
+      limit = toInt(request.queryParameter("limit"));
+      since = toDate(request.queryParameter("since"));
     } catch (InvalidInputException e) {
       return jsonResponse(e.getErrors(), HTTP_BAD_REQUEST);
     }
+    checkParameter(limit == null || limit >= 0, "limit must be 0 or greater");
 
-    GetServeEventsResult result =
-        new GetServeEventsResult(paginator, serveEventsResult.isRequestJournalDisabled());
+    try {
+      // Fails straight away if there's no journal, rather than part way through the response
+      admin.streamServeEvents(query, cursor).close();
+    } catch (RequestJournalDisabledException e) {
+      return responseDefinition()
+          .withStatus(HTTP_OK)
+          .withBody(Json.write(new GetServeEventsResult(List.of(), new Meta(0), true)))
+          .withHeader("Content-Type", "application/json")
+          .build();
+    }
 
     return responseDefinition()
         .withStatus(HTTP_OK)
-        .withBody(Json.write(result))
+        .withResponseBody(
+            Body.streamed(new StreamedServeEventsBody(admin, query, cursor, limit, since), true))
         .withHeader("Content-Type", "application/json")
         .build();
   }
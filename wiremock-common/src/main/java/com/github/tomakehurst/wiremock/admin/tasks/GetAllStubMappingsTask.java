@@ -15,24 +15,51 @@
  */
 package com.github.tomakehurst.wiremock.admin.tasks;
 
+import static com.github.tomakehurst.wiremock.admin.Conversions.toInt;
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
+import static com.github.tomakehurst.wiremock.common.ParameterUtils.checkParameter;
+import static java.net.HttpURLConnection.HTTP_OK;
+
 import com.github.tomakehurst.wiremock.admin.AdminTask;
-import com.github.tomakehurst.wiremock.admin.LimitAndOffsetPaginator;
-import com.github.tomakehurst.wiremock.admin.model.ListStubMappingsResult;
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.http.Body;
+import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.Arrays;
+import java.util.List;
 
 public class GetAllStubMappingsTask implements AdminTask {
 
   @Override
   public ResponseDefinition execute(Admin admin, ServeEvent serveEvent, PathParams pathParams) {
-    ListStubMappingsResult result =
-        new ListStubMappingsResult(
-            LimitAndOffsetPaginator.fromRequest(
-                admin.listAllStubMappings().getMappings(), serveEvent.getRequest()));
+    Request request = serveEvent.getRequest();
+    Integer limit = toInt(request.queryParameter("limit"));
+    Integer offset = toInt(request.queryParameter("offset"));
+    checkParameter(limit == null || limit >= 0, "limit must be 0 or greater");
+    checkParameter(offset == null || offset >= 0, "offset must be 0 or greater");
+
+    boolean gzip = acceptsGzip(request);
+    ResponseDefinitionBuilder response =
+        responseDefinition()
+            .withStatus(HTTP_OK)
+            .withResponseBody(
+                Body.streamed(new StreamedStubMappingsBody(admin, limit, offset, gzip), !gzip))
+            .withHeader("Content-Type", "application/json");
+    if (gzip) {
+      response.withHeader("Content-Encoding", "gzip");
+    }
+
+    return response.build();
+  }
 
-    return ResponseDefinitionBuilder.jsonResponse(result);
+  private static boolean acceptsGzip(Request request) {
+    List<String> values = request.header("Accept-Encoding").getValues();
+    return values.stream()
+        .flatMap(value -> Arrays.stream(value.split(",")))
+        .map(coding -> coding.split(";")[0].trim())
+        .anyMatch("gzip"::equalsIgnoreCase);
   }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.admin.tasks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.tomakehurst.wiremock.admin.model.ServeEventCursor;
+import com.github.tomakehurst.wiremock.admin.model.ServeEventQuery;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
+import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a page of serve events in the same JSON form as {@link
+ * com.github.tomakehurst.wiremock.admin.model.GetServeEventsResult}, one event at a time as it's
+ * read from the journal, so that neither the page nor its JSON is held in memory as a whole.
+ */
+class StreamedServeEventsBody extends WritableStreamSource {
+
+  private final Admin admin;
+  private final ServeEventQuery query;
+  private final ServeEventCursor cursor;
+  private final Integer limit;
+  private final Date since;
+
+  StreamedServeEventsBody(
+      Admin admin, ServeEventQuery query, ServeEventCursor cursor, Integer limit, Date since) {
+    this.admin = admin;
+    this.query = query;
+    this.cursor = cursor;
+    this.limit = limit;
+    this.since = since;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    final long total;
+    try (Stream<ServeEvent> all = admin.streamServeEvents(query, null)) {
+      total = all.count();
+    }
+
+    final ObjectMapper mapper = Json.getObjectMapper();
+    final ObjectWriter eventWriter =
+        mapper
+            .writerWithView(Json.PublicView.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    try (Stream<ServeEvent> events = admin.streamServeEvents(query, cursor);
+        JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.useDefaultPrettyPrinter();
+
+      generator.writeStartObject();
+      generator.writeArrayFieldStart("requests");
+      final Iterator<ServeEvent> page =
+          events
+              .filter(event -> since == null || event.getRequest().getLoggedDate().after(since))
+              .iterator();
+      ServeEvent last = null;
+      int written = 0;
+      while ((limit == null || written < limit) && page.hasNext()) {
+        last = page.next();
+        eventWriter.writeValue(generator, last);
+        written++;
+      }
+      generator.writeEndArray();
+
+      generator.writeObjectFieldStart("meta");
+      generator.writeNumberField("total", total);
+      generator.writeEndObject();
+      generator.writeBooleanField("requestJournalDisabled", false);
+      if (last != null && page.hasNext()) {
+        generator.writeStringField("nextCursor", admin.cursorAfter(last).toString());
+      }
+      generator.writeEndObject();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.admin.tasks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
+import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a page of stub mappings in the same JSON form as {@link
+ * com.github.tomakehurst.wiremock.admin.model.ListStubMappingsResult}, one mapping at a time as
+ * it's read from the store, optionally gzipped.
+ */
+class StreamedStubMappingsBody extends WritableStreamSource {
+
+  private final Admin admin;
+  private final Integer limit;
+  private final Integer offset;
+  private final boolean gzip;
+
+  StreamedStubMappingsBody(Admin admin, Integer limit, Integer offset, boolean gzip) {
+    this.admin = admin;
+    this.limit = limit;
+    this.offset = offset;
+    this.gzip = gzip;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    if (!gzip) {
+      writeJsonTo(out);
+      return;
+    }
+
+    final GZIPOutputStream gzipOut = new GZIPOutputStream(out);
+    writeJsonTo(gzipOut);
+    gzipOut.finish();
+  }
+
+  private void writeJsonTo(OutputStream out) throws IOException {
+    final long total;
+    try (Stream<StubMapping> all = admin.streamStubMappings()) {
+      total = all.count();
+    }
+
+    final ObjectMapper mapper = Json.getObjectMapper();
+    final ObjectWriter mappingWriter =
+        mapper
+            .writerWithView(Json.PublicView.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    try (Stream<StubMapping> mappings = admin.streamStubMappings();
+        JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.useDefaultPrettyPrinter();
+
+      generator.writeStartObject();
+      generator.writeArrayFieldStart("mappings");
+      final Iterator<StubMapping> page =
+          mappings
+              .skip(offset != null ? offset : 0)
+              .limit(limit != null ? limit : Long.MAX_VALUE)
+              .iterator();
+      while (page.hasNext()) {
+        mappingWriter.writeValue(generator, page.next());
+      }
+      generator.writeEndArray();
+
+      generator.writeObjectFieldStart("meta");
+      generator.writeNumberField("total", total);
+      generator.writeEndObject();
+      generator.writeEndObject();
+    }
+  }
+}
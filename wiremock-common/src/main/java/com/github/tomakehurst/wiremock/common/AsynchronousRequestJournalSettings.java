@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+public class AsynchronousRequestJournalSettings {
+
+  public static final AsynchronousRequestJournalSettings DISABLED =
+      new AsynchronousRequestJournalSettings(false, 0, OverflowPolicy.BLOCK);
+
+  public static final int DEFAULT_QUEUE_SIZE = 10_000;
+
+  /** What to do with a journal write when the queue of pending writes is full. */
+  public enum OverflowPolicy {
+    /** Wait on the request thread until there's room in the queue. */
+    BLOCK,
+    /** Discard the oldest pending write to make room. */
+    DROP_OLDEST,
+    /**
+     * Discard the incoming write, keeping the writes that are already queued. Use {@link
+     * com.github.tomakehurst.wiremock.core.WireMockConfiguration#sampleJournalledRequests(int)} to
+     * journal an even sample of the traffic instead.
+     */
+    DROP_NEWEST
+  }
+
+  private final boolean enabled;
+  private final int queueSize;
+  private final OverflowPolicy overflowPolicy;
+
+  public AsynchronousRequestJournalSettings(
+      boolean enabled, int queueSize, OverflowPolicy overflowPolicy) {
+    if (enabled && queueSize < 1) {
+      throw new IllegalArgumentException("Journal queue size must be greater than zero");
+    }
+
+    this.enabled = enabled;
+    this.queueSize = queueSize;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+}
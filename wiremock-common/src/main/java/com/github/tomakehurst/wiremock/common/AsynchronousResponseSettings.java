@@ -19,10 +19,20 @@ public class AsynchronousResponseSettings {
 
   private final boolean enabled;
   private final int threads;
+  private final int timerTickMillis;
 
   public AsynchronousResponseSettings(boolean enabled, int threads) {
+    this(enabled, threads, 0);
+  }
+
+  /**
+   * @param timerTickMillis the resolution of the timer wheel used to schedule delays, or zero to
+   *     use a scheduled thread pool instead
+   */
+  public AsynchronousResponseSettings(boolean enabled, int threads, int timerTickMillis) {
     this.enabled = enabled;
     this.threads = threads;
+    this.timerTickMillis = timerTickMillis;
   }
 
   public boolean isEnabled() {
@@ -32,4 +42,12 @@ public class AsynchronousResponseSettings {
   public int getThreads() {
     return threads;
   }
+
+  public int getTimerTickMillis() {
+    return timerTickMillis;
+  }
+
+  public boolean isTimerWheelEnabled() {
+    return timerTickMillis > 0;
+  }
 }
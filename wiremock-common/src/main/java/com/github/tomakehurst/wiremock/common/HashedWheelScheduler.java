@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Schedules one-off delayed tasks on a hashed timer wheel, for large numbers of concurrent response
+ * delays. Scheduling is a lock-free enqueue rather than an insert into a shared heap. A single
+ * thread advances the wheel once per tick and hands due tasks to a pool of worker threads, so tasks
+ * run up to one tick (plus any queueing for a worker) after their delay, but never before.
+ *
+ * <p>Periodic scheduling isn't supported. Tasks still waiting on the wheel when the scheduler is
+ * shut down are dropped.
+ */
+public class HashedWheelScheduler extends AbstractExecutorService
+    implements ScheduledExecutorService {
+
+  public static final int DEFAULT_WHEEL_SIZE = 512;
+
+  // Keeps deadlines well clear of overflow for absurdly long delays
+  private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+
+  private final long tickNanos;
+  private final Queue<Timeout<?>>[] wheel;
+  private final int mask;
+  private final Queue<Timeout<?>> newTimeouts = new ConcurrentLinkedQueue<>();
+  private final ExecutorService workers;
+  private final Thread ticker;
+  private final long startNanos;
+  private volatile boolean shutdown;
+
+  private final LongAdder pendingTimers = new LongAdder();
+  private final LongAdder firedTimers = new LongAdder();
+  private final LongAdder totalLagNanos = new LongAdder();
+  private final LongAccumulator maxLagNanos = new LongAccumulator(Math::max, 0);
+
+  public HashedWheelScheduler(long tickMillis, int workerThreads) {
+    this(tickMillis, MILLISECONDS, DEFAULT_WHEEL_SIZE, workerThreads);
+  }
+
+  @SuppressWarnings("unchecked")
+  public HashedWheelScheduler(long tick, TimeUnit tickUnit, int wheelSize, int workerThreads) {
+    if (tick <= 0) {
+      throw new IllegalArgumentException("The tick must be positive");
+    }
+    if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("The wheel size must be a power of two");
+    }
+
+    this.tickNanos = tickUnit.toNanos(tick);
+    this.wheel = new Queue[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new ArrayDeque<>();
+    }
+    this.mask = wheelSize - 1;
+    this.workers = Executors.newFixedThreadPool(workerThreads);
+
+    this.startNanos = System.nanoTime();
+    this.ticker = new Thread(this::advance, "wiremock-delay-timer");
+    ticker.setDaemon(true);
+    ticker.start();
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    requireNonNull(command);
+    return schedule(Executors.callable(command), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    requireNonNull(callable);
+    if (shutdown) {
+      throw new RejectedExecutionException("The scheduler has been shut down");
+    }
+
+    final long delayNanos = Math.min(Math.max(unit.toNanos(delay), 0), MAX_DELAY_NANOS);
+    final Timeout<V> timeout = new Timeout<>(callable, System.nanoTime() + delayNanos);
+    pendingTimers.increment();
+    newTimeouts.add(timeout);
+    return timeout;
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      Runnable command, long initialDelay, long period, TimeUnit unit) {
+    throw new UnsupportedOperationException("Only one-off delays can be scheduled");
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    throw new UnsupportedOperationException("Only one-off delays can be scheduled");
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    workers.execute(command);
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown = true;
+    LockSupport.unpark(ticker);
+    workers.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown();
+    return workers.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return shutdown && !ticker.isAlive() && workers.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    if (!workers.awaitTermination(timeout, unit)) {
+      return false;
+    }
+
+    final long remainingMillis = NANOSECONDS.toMillis(deadline - System.nanoTime());
+    if (remainingMillis > 0) {
+      ticker.join(remainingMillis);
+    }
+
+    return !ticker.isAlive();
+  }
+
+  /** Tasks scheduled but not yet handed to a worker, not counting cancelled ones. */
+  public long getPendingTimers() {
+    return pendingTimers.sum();
+  }
+
+  /** Tasks that have started running. */
+  public long getFiredTimers() {
+    return firedTimers.sum();
+  }
+
+  /** The mean time between when tasks were due and when they started running. */
+  public double getMeanScheduleLagMillis() {
+    final long fired = firedTimers.sum();
+    return fired == 0 ? 0 : (double) totalLagNanos.sum() / fired / MILLISECONDS.toNanos(1);
+  }
+
+  /** The longest time between when a task was due and when it started running. */
+  public long getMaxScheduleLagMillis() {
+    return NANOSECONDS.toMillis(maxLagNanos.get());
+  }
+
+  private void advance() {
+    long tick = 0;
+    while (!shutdown) {
+      waitUntil(startNanos + (tick + 1) * tickNanos);
+      if (shutdown) {
+        break;
+      }
+
+      transferNewTimeouts(tick);
+      expireTimeouts(wheel[(int) (tick & mask)]);
+      tick++;
+    }
+  }
+
+  private void waitUntil(long deadlineNanos) {
+    long remaining;
+    while (!shutdown && (remaining = deadlineNanos - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(this, remaining);
+    }
+  }
+
+  private void transferNewTimeouts(long tick) {
+    Timeout<?> timeout;
+    while ((timeout = newTimeouts.poll()) != null) {
+      if (timeout.isCancelled()) {
+        continue;
+      }
+
+      // A timeout lands in the bucket for the tick its deadline falls in, and that bucket is only
+      // expired once the tick has ended, so it can't fire early
+      final long dueTick = (timeout.deadlineNanos - startNanos) / tickNanos;
+      timeout.remainingRounds = (dueTick - tick) / wheel.length;
+      wheel[(int) (Math.max(dueTick, tick) & mask)].add(timeout);
+    }
+  }
+
+  private void expireTimeouts(Queue<Timeout<?>> bucket) {
+    for (int i = bucket.size(); i > 0; i--) {
+      final Timeout<?> timeout = bucket.poll();
+      if (timeout.isCancelled()) {
+        continue;
+      }
+
+      if (timeout.remainingRounds > 0) {
+        timeout.remainingRounds--;
+        bucket.add(timeout);
+      } else if (timeout.leaveWheel()) {
+        try {
+          workers.execute(timeout);
+        } catch (RejectedExecutionException e) {
+          // shut down in the meantime, so the task is dropped along with the rest
+        }
+      }
+    }
+  }
+
+  private final class Timeout<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+    private final long deadlineNanos;
+    private final AtomicBoolean leftWheel = new AtomicBoolean();
+
+    // Only touched by the ticker thread
+    private long remainingRounds;
+
+    Timeout(Callable<V> callable, long deadlineNanos) {
+      super(callable);
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public void run() {
+      final long lagNanos = System.nanoTime() - deadlineNanos;
+      firedTimers.increment();
+      totalLagNanos.add(lagNanos);
+      maxLagNanos.accumulate(lagNanos);
+      super.run();
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      final boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        leaveWheel();
+      }
+
+      return cancelled;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(deadlineNanos - System.nanoTime(), NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(NANOSECONDS), other.getDelay(NANOSECONDS));
+    }
+
+    private boolean leaveWheel() {
+      if (leftWheel.compareAndSet(false, true)) {
+        pendingTimers.decrement();
+        return true;
+      }
+
+      return false;
+    }
+  }
+}
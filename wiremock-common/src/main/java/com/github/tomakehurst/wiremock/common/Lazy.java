@@ -34,4 +34,8 @@ public class Lazy<T> {
   public T get() {
     return ref.updateAndGet(existing -> existing == null ? supplier.get() : existing);
   }
+
+  public boolean isInitialised() {
+    return ref.get() != null;
+  }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+public class RequestJournalSamplingSettings {
+
+  public static final int UNLIMITED_PER_SECOND = 0;
+
+  public static final RequestJournalSamplingSettings ALL =
+      new RequestJournalSamplingSettings(1, UNLIMITED_PER_SECOND);
+
+  private final int sampleEvery;
+  private final int maxPerSecond;
+
+  /**
+   * @param sampleEvery journal roughly one in every this many matched requests, chosen by a hash of
+   *     each event's ID, so the proportion journalled is approximate
+   * @param maxPerSecond journal at most this many matched requests per second, or {@link
+   *     #UNLIMITED_PER_SECOND}
+   */
+  public RequestJournalSamplingSettings(int sampleEvery, int maxPerSecond) {
+    if (sampleEvery < 1) {
+      throw new IllegalArgumentException("Journal sample rate must be greater than zero");
+    }
+    if (maxPerSecond < 0) {
+      throw new IllegalArgumentException("Journal rate limit must not be negative");
+    }
+
+    this.sampleEvery = sampleEvery;
+    this.maxPerSecond = maxPerSecond;
+  }
+
+  public int getSampleEvery() {
+    return sampleEvery;
+  }
+
+  public int getMaxPerSecond() {
+    return maxPerSecond;
+  }
+}
@@ -18,7 +18,11 @@ package com.github.tomakehurst.wiremock.common;
 import com.github.tomakehurst.wiremock.admin.NotFoundException;
 import com.github.tomakehurst.wiremock.store.BlobStore;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 public class StreamSources {
@@ -32,6 +36,10 @@ public class StreamSources {
     return new ByteArrayInputStreamSource(bytes);
   }
 
+  public static InputStreamSource forByteBuffer(final ByteBuffer buffer) {
+    return new ByteBufferInputStreamSource(buffer);
+  }
+
   public static InputStreamSource forBlobStoreItem(BlobStore blobStore, String key) {
     return () ->
         blobStore
@@ -60,6 +68,75 @@ public class StreamSources {
     }
   }
 
+  /**
+   * Serves content that's already held in memory, on or off heap. Containers can write {@link
+   * #getByteBuffer()} straight to the connection rather than copying it through a stream.
+   */
+  public static class ByteBufferInputStreamSource implements InputStreamSource {
+
+    private final ByteBuffer buffer;
+
+    public ByteBufferInputStreamSource(ByteBuffer buffer) {
+      this.buffer = buffer.asReadOnlyBuffer();
+    }
+
+    /** Returns a view of the content with its own position, so callers can consume it freely. */
+    public ByteBuffer getByteBuffer() {
+      return buffer.duplicate();
+    }
+
+    public int getLength() {
+      return buffer.remaining();
+    }
+
+    @Override
+    public InputStream getStream() {
+      final ByteBuffer content = getByteBuffer();
+      return new InputStream() {
+        @Override
+        public int read() {
+          return content.hasRemaining() ? content.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+          if (length == 0) {
+            return 0;
+          }
+          if (!content.hasRemaining()) {
+            return -1;
+          }
+
+          final int count = Math.min(length, content.remaining());
+          content.get(bytes, offset, count);
+          return count;
+        }
+
+        @Override
+        public int available() {
+          return content.remaining();
+        }
+      };
+    }
+  }
+
+  /**
+   * Generates its content by writing it to an output stream, so that containers can send it as it's
+   * produced rather than holding all of it in memory first. Callers that need the whole content can
+   * still use {@link #getStream()}, which writes it to a buffer.
+   */
+  public abstract static class WritableStreamSource implements InputStreamSource {
+
+    public abstract void writeTo(OutputStream out) throws IOException;
+
+    @Override
+    public InputStream getStream() {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      Exceptions.uncheck(() -> writeTo(out));
+      return new ByteArrayInputStream(out.toByteArray());
+    }
+  }
+
   public static InputStreamSource empty() {
     return forBytes(new byte[0]);
   }
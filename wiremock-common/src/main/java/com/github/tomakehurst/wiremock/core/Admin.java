@@ -23,10 +23,12 @@ import com.github.tomakehurst.wiremock.recording.RecordSpec;
 import com.github.tomakehurst.wiremock.recording.RecordSpecBuilder;
 import com.github.tomakehurst.wiremock.recording.RecordingStatusResult;
 import com.github.tomakehurst.wiremock.recording.SnapshotRecordResult;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubImport;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.verification.*;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface Admin {
 
@@ -40,6 +42,14 @@ public interface Admin {
 
   ListStubMappingsResult listAllStubMappings();
 
+  /**
+   * Streams all the stub mappings in the same order as {@link #listAllStubMappings()}. Local
+   * implementations read straight from the store rather than copying the mappings first.
+   */
+  default Stream<StubMapping> streamStubMappings() {
+    return listAllStubMappings().getMappings().stream();
+  }
+
   SingleStubMappingResult getStubMapping(UUID id);
 
   void saveMappings();
@@ -58,6 +68,28 @@ public interface Admin {
 
   GetServeEventsResult getServeEvents(ServeEventQuery query);
 
+  /**
+   * Streams the serve events matching the query, newest first, starting after the cursor's event,
+   * or with the newest if the cursor is null. Implementations backed by a local journal read it
+   * lazily rather than copying it.
+   *
+   * @throws RequestJournalDisabledException if the request journal is disabled
+   */
+  default Stream<ServeEvent> streamServeEvents(ServeEventQuery query, ServeEventCursor cursor) {
+    final GetServeEventsResult result = getServeEvents(query);
+    if (result.isRequestJournalDisabled()) {
+      throw new RequestJournalDisabledException();
+    }
+
+    final Stream<ServeEvent> events = result.getServeEvents().stream();
+    return cursor != null ? cursor.skipTo(events) : events;
+  }
+
+  /** Returns a cursor for streaming the serve events that come after the given one. */
+  default ServeEventCursor cursorAfter(ServeEvent serveEvent) {
+    return ServeEventCursor.after(serveEvent);
+  }
+
   SingleServedStubResult getServedStub(UUID id);
 
   VerificationResult countRequestsMatching(RequestPattern requestPattern);
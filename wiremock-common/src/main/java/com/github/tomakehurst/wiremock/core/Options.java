@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2013-2025 Thomas Akehurst
+ * Copyright (C) 2013-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -63,6 +63,10 @@ public interface Options {
 
   int containerThreads();
 
+  default boolean getVirtualThreadsEnabled() {
+    return false;
+  }
+
   /**
    * @deprecated use {@link BrowserProxySettings#enabled()}
    */
@@ -81,12 +85,24 @@ public interface Options {
 
   MappingsSaver mappingsSaver();
 
+  default boolean getWatchMappings() {
+    return false;
+  }
+
   Notifier notifier();
 
   boolean requestJournalDisabled();
 
   Optional<Integer> maxRequestJournalEntries();
 
+  default AsynchronousRequestJournalSettings getAsynchronousRequestJournalSettings() {
+    return AsynchronousRequestJournalSettings.DISABLED;
+  }
+
+  default RequestJournalSamplingSettings getRequestJournalSamplingSettings() {
+    return RequestJournalSamplingSettings.ALL;
+  }
+
   String bindAddress();
 
   FilenameMaker getFilenameMaker();
@@ -117,6 +133,10 @@ public interface Options {
     return PlainTextStubNotMatchedRenderer::new;
   }
 
+  default boolean getAsynchronousNotMatchedRendering() {
+    return false;
+  }
+
   AsynchronousResponseSettings getAsynchronousResponseSettings();
 
   ChunkedEncodingPolicy getChunkedEncodingPolicy();
@@ -139,6 +159,14 @@ public interface Options {
 
   int proxyTimeout();
 
+  default boolean getProxyResponseStreamingEnabled() {
+    return false;
+  }
+
+  default boolean getAsynchronousProxyingEnabled() {
+    return false;
+  }
+
   int getMaxHttpClientConnections();
 
   boolean getResponseTemplatingEnabled();
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2012-2025 Thomas Akehurst
+ * Copyright (C) 2012-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonN
 import com.github.tomakehurst.wiremock.admin.AdminRoutes;
 import com.github.tomakehurst.wiremock.admin.LimitAndOffsetPaginator;
 import com.github.tomakehurst.wiremock.admin.model.*;
+import com.github.tomakehurst.wiremock.common.AsynchronousRequestJournalSettings;
 import com.github.tomakehurst.wiremock.common.BrowserProxySettings;
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
@@ -33,6 +34,7 @@ import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
 import com.github.tomakehurst.wiremock.recording.*;
+import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
 import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
@@ -43,8 +45,15 @@ import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.spi.cache.CacheProvider;
 import com.jayway.jsonpath.spi.cache.NOOPCache;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class WireMockApp implements StubServer, Admin {
 
@@ -52,6 +61,7 @@ public class WireMockApp implements StubServer, Admin {
   public static final String ADMIN_CONTEXT_ROOT = "/__admin";
   public static final String MAPPINGS_ROOT = "mappings";
   private static final AtomicBoolean FACTORIES_LOADING_OPTIMIZED = new AtomicBoolean(false);
+  private static final int NOT_MATCHED_RENDERING_QUEUE_SIZE = 1000;
 
   private final Stores stores;
   private final Scenarios scenarios;
@@ -67,6 +77,9 @@ public class WireMockApp implements StubServer, Admin {
   private final List<GlobalSettingsListener> globalSettingsListeners;
   private final Map<String, MappingsLoaderExtension> mappingsLoaderExtensions;
   private final Map<String, ServeEventListener> serveEventListeners;
+  private final List<HttpClient> proxyHttpClients = new CopyOnWriteArrayList<>();
+  private final AtomicReference<ThreadPoolExecutor> notMatchedRenderingExecutor =
+      new AtomicReference<>();
 
   private Options options;
 
@@ -115,10 +128,11 @@ public class WireMockApp implements StubServer, Admin {
     requestJournal =
         options.requestJournalDisabled()
             ? new DisabledRequestJournal()
-            : new StoreBackedRequestJournal(
-                options.maxRequestJournalEntries().orElse(null),
-                customMatchers,
-                stores.getRequestJournalStore());
+            : buildRequestJournal(
+                new StoreBackedRequestJournal(
+                    options.maxRequestJournalEntries().orElse(null),
+                    customMatchers,
+                    stores.getRequestJournalStore()));
 
     scenarios = new InMemoryScenarios(stores.getScenariosStore());
     stubMappings =
@@ -227,6 +241,8 @@ public class WireMockApp implements StubServer, Admin {
                 ? Collections.emptyList()
                 : browserProxySettings.trustedProxyTargets(),
             false);
+    proxyHttpClients.add(reverseProxyClient);
+    proxyHttpClients.add(forwardProxyClient);
 
     return new StubRequestHandler(
         this,
@@ -240,7 +256,8 @@ public class WireMockApp implements StubServer, Admin {
                 options.getStubCorsEnabled(),
                 options.getSupportedProxyEncodings(),
                 reverseProxyClient,
-                forwardProxyClient),
+                forwardProxyClient,
+                this::shouldStreamProxiedResponses),
             List.copyOf(extensions.ofType(ResponseTransformer.class).values()),
             List.copyOf(extensions.ofType(ResponseTransformerV2.class).values())),
         this,
@@ -251,7 +268,78 @@ public class WireMockApp implements StubServer, Admin {
         getV2StubRequestFilters(),
         options.getStubRequestLoggingDisabled(),
         options.getDataTruncationSettings(),
-        options.getNotMatchedRendererFactory().apply(extensions));
+        options.getNotMatchedRendererFactory().apply(extensions),
+        buildNotMatchedRenderingExecutor());
+  }
+
+  // Recording needs the whole body in the journal, so streaming is suspended while it's running
+  private boolean shouldStreamProxiedResponses() {
+    return options.getProxyResponseStreamingEnabled()
+        && recorder.getStatus() != RecordingStatus.Recording;
+  }
+
+  private RequestJournal buildRequestJournal(RequestJournal storeBackedJournal) {
+    final AsynchronousRequestJournalSettings asyncSettings =
+        options.getAsynchronousRequestJournalSettings();
+    final RequestJournal journal =
+        asyncSettings.isEnabled()
+            ? new AsynchronousRequestJournal(storeBackedJournal, asyncSettings)
+            : storeBackedJournal;
+
+    // Sample before queueing, so that dropped events never take up room in the async queue
+    return new SamplingRequestJournal(journal, options.getRequestJournalSamplingSettings());
+  }
+
+  private Executor buildNotMatchedRenderingExecutor() {
+    if (!options.getAsynchronousNotMatchedRendering()) {
+      return null;
+    }
+
+    return task -> notMatchedRenderingExecutor().execute(task);
+  }
+
+  private ThreadPoolExecutor notMatchedRenderingExecutor() {
+    final ThreadPoolExecutor existing = notMatchedRenderingExecutor.get();
+    if (existing != null) {
+      return existing;
+    }
+
+    synchronized (notMatchedRenderingExecutor) {
+      if (notMatchedRenderingExecutor.get() == null) {
+        notMatchedRenderingExecutor.set(newNotMatchedRenderingExecutor());
+      }
+      return notMatchedRenderingExecutor.get();
+    }
+  }
+
+  private static ThreadPoolExecutor newNotMatchedRenderingExecutor() {
+    // A single daemon thread with a bounded queue, so that a burst of unmatched requests can't
+    // starve the request threads of CPU. Reports that don't fit in the queue are dropped.
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            30,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(NOT_MATCHED_RENDERING_QUEUE_SIZE),
+            runnable -> {
+              final Thread thread = new Thread(runnable, "wiremock-not-matched-renderer");
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private void shutdownNotMatchedRenderingExecutor() {
+    final ThreadPoolExecutor executor;
+    synchronized (notMatchedRenderingExecutor) {
+      executor = notMatchedRenderingExecutor.getAndSet(null);
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+    }
   }
 
   private List<RequestFilter> getAdminRequestFilters() {
@@ -288,6 +376,31 @@ public class WireMockApp implements StubServer, Admin {
     mappingsLoader.loadMappingsInto(stubMappings);
   }
 
+  public void startWatchingMappings() {
+    if (options != null
+        && options.getWatchMappings()
+        && defaultMappingsLoader instanceof JsonFileMappingsSource) {
+      ((JsonFileMappingsSource) defaultMappingsLoader).startWatching(stubMappings);
+    }
+  }
+
+  public void stopWatchingMappings() {
+    if (defaultMappingsLoader instanceof JsonFileMappingsSource) {
+      ((JsonFileMappingsSource) defaultMappingsLoader).stopWatching();
+    }
+  }
+
+  /**
+   * Stops the background work that serving has started, so that a stopped server doesn't hold on
+   * to any threads. Everything is started again as needed if the server is restarted.
+   */
+  public void stop() {
+    stopWatchingMappings();
+    proxyHttpClients.forEach(HttpClient::close);
+    shutdownNotMatchedRenderingExecutor();
+    requestJournal.shutdown();
+  }
+
   @Override
   public ServeEvent serveStubFor(ServeEvent initialServeEvent) {
     ServeEvent serveEvent = stubMappings.serveFor(initialServeEvent);
@@ -386,6 +499,11 @@ public class WireMockApp implements StubServer, Admin {
     return new ListStubMappingsResult(LimitAndOffsetPaginator.none(stubMappings.getAll()));
   }
 
+  @Override
+  public Stream<StubMapping> streamStubMappings() {
+    return stubMappings.streamAll();
+  }
+
   @Override
   public SingleStubMappingResult getStubMapping(UUID id) {
     return SingleStubMappingResult.fromOptional(stubMappings.get(id));
@@ -393,11 +511,12 @@ public class WireMockApp implements StubServer, Admin {
 
   @Override
   public void saveMappings() {
-    for (StubMapping stubMapping : stubMappings.getAll()) {
+    final List<StubMapping> all = stubMappings.getAll();
+    for (StubMapping stubMapping : all) {
       stubMapping.setPersistent(true);
       stubMappings.editMapping(stubMapping);
     }
-    mappingsSaver.save(stubMappings.getAll());
+    mappingsSaver.save(all);
   }
 
   @Override
@@ -436,7 +555,11 @@ public class WireMockApp implements StubServer, Admin {
   @Override
   public GetServeEventsResult getServeEvents(ServeEventQuery query) {
     try {
-      final List<ServeEvent> serveEvents = query.filter(requestJournal.getAllServeEvents());
+      final List<ServeEvent> serveEvents =
+          query.filter(
+              query.getStubMappingId() != null
+                  ? requestJournal.getServeEventsForStub(query.getStubMappingId())
+                  : requestJournal.getAllServeEvents());
       return GetServeEventsResult.requestJournalEnabled(LimitAndOffsetPaginator.none(serveEvents));
     } catch (RequestJournalDisabledException e) {
       return GetServeEventsResult.requestJournalDisabled(
@@ -444,6 +567,40 @@ public class WireMockApp implements StubServer, Admin {
     }
   }
 
+  @Override
+  public Stream<ServeEvent> streamServeEvents(ServeEventQuery query, ServeEventCursor cursor) {
+    final boolean cursorEventRemoved =
+        cursor != null && requestJournal.getServeEvent(cursor.getEventId()).isEmpty();
+    if (cursorEventRemoved && cursor.getSequence().isPresent()) {
+      return query.filter(
+          requestJournal.streamServeEventsOlderThan(cursor.getSequence().getAsLong()));
+    }
+
+    if (query.getStubMappingId() != null) {
+      // Already narrowed down by the journal's stub index
+      final Stream<ServeEvent> events =
+          query.filter(requestJournal.getServeEventsForStub(query.getStubMappingId()).stream());
+      return cursor != null ? cursor.skipTo(events) : events;
+    }
+
+    final Stream<ServeEvent> events;
+    if (cursor == null) {
+      events = requestJournal.streamServeEvents(null);
+    } else if (!cursorEventRemoved) {
+      events = requestJournal.streamServeEvents(cursor.getEventId());
+    } else {
+      events = cursor.skipTo(requestJournal.streamServeEvents(null));
+    }
+
+    return query.filter(events);
+  }
+
+  @Override
+  public ServeEventCursor cursorAfter(ServeEvent serveEvent) {
+    return ServeEventCursor.after(
+        serveEvent, requestJournal.getServeEventSequence(serveEvent.getId()));
+  }
+
   @Override
   public SingleServedStubResult getServedStub(UUID id) {
     return SingleServedStubResult.fromOptional(requestJournal.getServeEvent(id));
@@ -574,6 +731,7 @@ public class WireMockApp implements StubServer, Admin {
 
   @Override
   public void shutdownServer() {
+    requestJournal.shutdown();
     extensions.stopAll();
     stores.stop();
     container.shutdown();
@@ -673,8 +831,8 @@ public class WireMockApp implements StubServer, Admin {
     }
 
     if (importOptions.getDeleteAllNotInImport()) {
-      List<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toList());
-      for (StubMapping mapping : listAllStubMappings().getMappings()) {
+      Set<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toSet());
+      for (StubMapping mapping : stubMappings.getAll()) {
         if (!ids.contains(mapping.getId())) {
           removeStubMapping(mapping, false);
         }
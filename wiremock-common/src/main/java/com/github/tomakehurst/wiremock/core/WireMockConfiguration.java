@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2013-2025 Thomas Akehurst
+ * Copyright (C) 2013-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,8 @@ import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
 import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.standalone.MappingsSource;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
+import com.github.tomakehurst.wiremock.store.InMemoryRequestJournalStore;
+import com.github.tomakehurst.wiremock.store.RingBufferRequestJournalStore;
 import com.github.tomakehurst.wiremock.store.Stores;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
 import com.github.tomakehurst.wiremock.verification.notmatched.PlainTextStubNotMatchedRenderer;
@@ -67,6 +69,7 @@ public class WireMockConfiguration implements Options {
   private String bindAddress = DEFAULT_BIND_ADDRESS;
 
   private int containerThreads = DEFAULT_CONTAINER_THREADS;
+  private boolean virtualThreadsEnabled = false;
 
   private int httpsPort = -1;
   private String keyStorePath = getResource(WireMockConfiguration.class, "keystore").toString();
@@ -91,10 +94,18 @@ public class WireMockConfiguration implements Options {
   private Stores stores;
   private MappingsSource mappingsSource;
   private FilenameMaker filenameMaker;
+  private boolean watchMappings = false;
 
   private Notifier notifier = new Slf4jNotifier(false);
   private boolean requestJournalDisabled = false;
   private Optional<Integer> maxRequestJournalEntries = Optional.empty();
+  private boolean ringBufferRequestJournal = false;
+  private boolean indexedRequestJournal = false;
+  private long bodyFileCacheMaxBytes = 0;
+  private AsynchronousRequestJournalSettings asynchronousRequestJournalSettings =
+      AsynchronousRequestJournalSettings.DISABLED;
+  private int requestJournalSampleEvery = 1;
+  private int maxJournalledRequestsPerSecond = RequestJournalSamplingSettings.UNLIMITED_PER_SECOND;
   private List<CaseInsensitiveKey> matchingHeaders = emptyList();
 
   private boolean preserveHostHeader;
@@ -113,8 +124,10 @@ public class WireMockConfiguration implements Options {
 
   private Function<Extensions, NotMatchedRenderer> notMatchedRendererFactory =
       PlainTextStubNotMatchedRenderer::new;
+  private boolean asynchronousNotMatchedRendering = false;
   private boolean asynchronousResponseEnabled;
   private int asynchronousResponseThreads;
+  private int asynchronousResponseTimerTickMillis;
   private ChunkedEncodingPolicy chunkedEncodingPolicy;
   private boolean gzipDisabled = false;
   private boolean stubLoggingDisabled = false;
@@ -129,6 +142,8 @@ public class WireMockConfiguration implements Options {
   private NetworkAddressRules proxyTargetRules = NetworkAddressRules.ALLOW_ALL;
 
   private int proxyTimeout = DEFAULT_TIMEOUT;
+  private boolean proxyResponseStreamingEnabled = false;
+  private boolean asynchronousProxyingEnabled = false;
 
   private int maxHttpClientConnections = DEFAULT_MAX_HTTP_CONNECTIONS;
   private boolean disableConnectionReuse = DEFAULT_DISABLE_CONNECTION_REUSE;
@@ -183,6 +198,16 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Watches the mappings directory while the server is running, and applies changes to mapping
+   * files as they're made. Only the stubs from files that have changed are added, replaced or
+   * removed, rather than all of them being reloaded.
+   */
+  public WireMockConfiguration watchMappings(boolean watchMappings) {
+    this.watchMappings = watchMappings;
+    return this;
+  }
+
   public WireMockConfiguration dynamicPort() {
     this.portNumber = DYNAMIC_PORT;
     return this;
@@ -218,6 +243,17 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Handles requests on virtual threads rather than container threads, so that a delayed response
+   * only holds a thread that costs a few kilobytes. The container threads are still used for
+   * accepting connections and I/O selection. Needs Java 21 or later. On earlier versions an error
+   * is logged through the notifier and requests are handled on container threads.
+   */
+  public WireMockConfiguration virtualThreads(boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
+
   public WireMockConfiguration keystorePath(String path) {
     this.keyStorePath = path;
     return this;
@@ -352,6 +388,73 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Keeps the request journal in a fixed size ring buffer, evicting the oldest entry in constant
+   * time once <code>maxRequestJournalEntries</code> has been reached. Slots are claimed without
+   * locking, but updating or evicting an entry briefly holds one of a fixed set of striped locks.
+   */
+  public WireMockConfiguration ringBufferRequestJournal(int maxRequestJournalEntries) {
+    this.ringBufferRequestJournal = true;
+    return maxRequestJournalEntries(maxRequestJournalEntries);
+  }
+
+  /**
+   * Index the request journal by request method, URL path and stub, so that verifying against a
+   * large journal only evaluates the requests that could match. Each journalled request then also
+   * updates the indexes, so this is only worth enabling when the journal is queried often.
+   */
+  public WireMockConfiguration indexedRequestJournal() {
+    this.indexedRequestJournal = true;
+    return this;
+  }
+
+  /**
+   * Write to the request journal from a background thread, so that journalling doesn't hold up the
+   * request thread. Writes are queued, and <code>overflowPolicy</code> decides what happens to them
+   * when more than <code>queueSize</code> are waiting. Verification and other journal queries wait
+   * for the queue to be written out first.
+   */
+  public WireMockConfiguration asynchronousRequestJournal(
+      int queueSize, AsynchronousRequestJournalSettings.OverflowPolicy overflowPolicy) {
+    this.asynchronousRequestJournalSettings =
+        new AsynchronousRequestJournalSettings(true, queueSize, overflowPolicy);
+    return this;
+  }
+
+  /**
+   * Only journal roughly one in every <code>sampleEvery</code> matched requests. Requests are
+   * chosen by a hash of their serve event ID, so the proportion journalled is approximate rather
+   * than exact. Unmatched requests are always journalled.
+   */
+  public WireMockConfiguration sampleJournalledRequests(int sampleEvery) {
+    this.requestJournalSampleEvery = sampleEvery;
+    return this;
+  }
+
+  /**
+   * Journal at most <code>maxPerSecond</code> matched requests each second. Unmatched requests are
+   * always journalled.
+   */
+  public WireMockConfiguration maxJournalledRequestsPerSecond(int maxPerSecond) {
+    this.maxJournalledRequestsPerSecond = maxPerSecond;
+    return this;
+  }
+
+  public WireMockConfiguration asynchronousRequestJournal() {
+    return asynchronousRequestJournal(
+        AsynchronousRequestJournalSettings.DEFAULT_QUEUE_SIZE,
+        AsynchronousRequestJournalSettings.OverflowPolicy.BLOCK);
+  }
+
+  /**
+   * Keep the contents of served body files in memory, up to <code>maxBytes</code> in total. Files
+   * are re-read when their modification time or size changes. Large files are held off heap.
+   */
+  public WireMockConfiguration bodyFileCache(long maxBytes) {
+    this.bodyFileCacheMaxBytes = maxBytes;
+    return this;
+  }
+
   public WireMockConfiguration recordRequestHeadersForMatching(List<String> headers) {
     this.matchingHeaders =
         headers.stream().map(TO_CASE_INSENSITIVE_KEYS).collect(Collectors.toUnmodifiableList());
@@ -444,6 +547,17 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Render the near miss report for unmatched requests on a background thread rather than the
+   * request thread. Unmatched requests then get a plain 404 immediately, and the report is attached
+   * to the serve event in the journal once it's been rendered. Reports are dropped if the
+   * background thread can't keep up.
+   */
+  public WireMockConfiguration asynchronousNotMatchedRendering(boolean enabled) {
+    this.asynchronousNotMatchedRendering = enabled;
+    return this;
+  }
+
   public WireMockConfiguration asynchronousResponseEnabled(boolean asynchronousResponseEnabled) {
     this.asynchronousResponseEnabled = asynchronousResponseEnabled;
     return this;
@@ -454,6 +568,17 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Schedules asynchronous response delays and dribble chunks on a hashed timer wheel that ticks
+   * at the given resolution, rather than on a scheduled thread pool. Scheduling then costs the same
+   * however many delays are pending, at the price of delays being up to one tick longer. The
+   * number of pending delays and how late they've run are logged every minute when verbose.
+   */
+  public WireMockConfiguration asynchronousResponseTimerTick(int tickMillis) {
+    this.asynchronousResponseTimerTickMillis = tickMillis;
+    return this;
+  }
+
   public WireMockConfiguration useChunkedTransferEncoding(ChunkedEncodingPolicy policy) {
     this.chunkedEncodingPolicy = policy;
     return this;
@@ -509,6 +634,26 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Pass proxied response bodies on to the client as they arrive from upstream, rather than reading
+   * them in full first. Bodies are still read in full while recording, or when a response
+   * transformer needs them. Streamed bodies aren't kept in the request journal.
+   */
+  public WireMockConfiguration streamProxiedResponses(boolean proxyResponseStreamingEnabled) {
+    this.proxyResponseStreamingEnabled = proxyResponseStreamingEnabled;
+    return this;
+  }
+
+  /**
+   * Wait for proxied responses without holding a container thread, so that slow proxy targets don't
+   * limit how many requests can be in flight. Streamed proxy responses still use the blocking
+   * client.
+   */
+  public WireMockConfiguration asynchronousProxying(boolean asynchronousProxyingEnabled) {
+    this.asynchronousProxyingEnabled = asynchronousProxyingEnabled;
+    return this;
+  }
+
   public WireMockConfiguration maxHttpClientConnections(int maxHttpClientConnections) {
     this.maxHttpClientConnections = maxHttpClientConnections;
     return this;
@@ -583,6 +728,11 @@ public class WireMockConfiguration implements Options {
     return containerThreads;
   }
 
+  @Override
+  public boolean getVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
   @Override
   public HttpsSettings httpsSettings() {
     return new HttpsSettings.Builder()
@@ -611,7 +761,14 @@ public class WireMockConfiguration implements Options {
   @Override
   public Stores getStores() {
     if (stores == null) {
-      stores = new DefaultStores(filesRoot);
+      stores =
+          new DefaultStores(
+              filesRoot,
+              ringBufferRequestJournal && maxRequestJournalEntries.isPresent()
+                  ? new RingBufferRequestJournalStore(
+                      maxRequestJournalEntries.get(), indexedRequestJournal)
+                  : new InMemoryRequestJournalStore(indexedRequestJournal),
+              bodyFileCacheMaxBytes);
     }
 
     return stores;
@@ -632,6 +789,11 @@ public class WireMockConfiguration implements Options {
     return getMappingsSource();
   }
 
+  @Override
+  public boolean getWatchMappings() {
+    return watchMappings;
+  }
+
   @Override
   public Notifier notifier() {
     return notifier;
@@ -647,6 +809,17 @@ public class WireMockConfiguration implements Options {
     return maxRequestJournalEntries;
   }
 
+  @Override
+  public AsynchronousRequestJournalSettings getAsynchronousRequestJournalSettings() {
+    return asynchronousRequestJournalSettings;
+  }
+
+  @Override
+  public RequestJournalSamplingSettings getRequestJournalSamplingSettings() {
+    return new RequestJournalSamplingSettings(
+        requestJournalSampleEvery, maxJournalledRequestsPerSecond);
+  }
+
   @Override
   public String bindAddress() {
     return bindAddress;
@@ -717,10 +890,17 @@ public class WireMockConfiguration implements Options {
     return notMatchedRendererFactory;
   }
 
+  @Override
+  public boolean getAsynchronousNotMatchedRendering() {
+    return asynchronousNotMatchedRendering;
+  }
+
   @Override
   public AsynchronousResponseSettings getAsynchronousResponseSettings() {
     return new AsynchronousResponseSettings(
-        asynchronousResponseEnabled, asynchronousResponseThreads);
+        asynchronousResponseEnabled,
+        asynchronousResponseThreads,
+        asynchronousResponseTimerTickMillis);
   }
 
   @Override
@@ -795,6 +975,16 @@ public class WireMockConfiguration implements Options {
     return proxyTimeout;
   }
 
+  @Override
+  public boolean getProxyResponseStreamingEnabled() {
+    return proxyResponseStreamingEnabled;
+  }
+
+  @Override
+  public boolean getAsynchronousProxyingEnabled() {
+    return asynchronousProxyingEnabled;
+  }
+
   @Override
   public int getMaxHttpClientConnections() {
     return maxHttpClientConnections;
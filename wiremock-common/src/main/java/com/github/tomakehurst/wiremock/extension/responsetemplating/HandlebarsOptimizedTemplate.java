@@ -62,11 +62,27 @@ public class HandlebarsOptimizedTemplate {
 
   public String apply(Object contextData) {
     final RequestCache requestCache = RequestCache.getCurrent();
-    Context context = Context.newBuilder(contextData).combine("requestCache", requestCache).build();
+    Context context = buildContext(contextData, requestCache);
 
     return startContent + applyTemplate(context) + endContent;
   }
 
+  /**
+   * Renders straight to the writer rather than building a string. The request cache is passed in
+   * because this may be called after the request has been handed off to another thread, e.g. when
+   * the response is delayed.
+   */
+  public void apply(Object contextData, RequestCache requestCache, Writer writer)
+      throws IOException {
+    writer.write(startContent);
+    template.apply(buildContext(contextData, requestCache), writer);
+    writer.write(endContent);
+  }
+
+  private static Context buildContext(Object contextData, RequestCache requestCache) {
+    return Context.newBuilder(contextData).combine("requestCache", requestCache).build();
+  }
+
   private String applyTemplate(Context context) {
     return Exceptions.uncheck(
         () -> {
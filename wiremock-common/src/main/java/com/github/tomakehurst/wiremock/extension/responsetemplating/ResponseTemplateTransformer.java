@@ -21,12 +21,18 @@ import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonN
 import com.github.jknack.handlebars.HandlebarsException;
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.common.FileSource;
-import com.github.tomakehurst.wiremock.common.TextFile;
+import com.github.tomakehurst.wiremock.common.RequestCache;
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
 import com.github.tomakehurst.wiremock.extension.*;
 import com.github.tomakehurst.wiremock.http.*;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -36,6 +42,14 @@ public class ResponseTemplateTransformer
 
   public static final String NAME = "response-template";
 
+  /**
+   * Transformer parameter that renders the body as it's written to the response rather than into
+   * memory first. Worth setting for very large generated bodies. The body is rendered again if
+   * anything else needs all of it, e.g. a response transformer or the request journal, so helpers
+   * generating random or time based values may give different results in each.
+   */
+  public static final String STREAM_BODY_PARAMETER = "streamBody";
+
   private final boolean global;
   private final FileSource files;
   private final TemplateEngine templateEngine;
@@ -77,13 +91,15 @@ public class ResponseTemplateTransformer
       final Map<String, Object> model = templateEngine.buildModelForRequest(serveEvent);
       model.putAll(addExtraModelElements(request, responseDefinition, files, parameters));
 
+      final boolean streamBody = parameters.getBoolean(STREAM_BODY_PARAMETER, false);
       if (responseDefinition.specifiesTextBodyContent()) {
         boolean isJsonBody = responseDefinition.getReponseBody().isJson();
         HandlebarsOptimizedTemplate bodyTemplate =
             templateEngine.getTemplate(
                 HttpTemplateCacheKey.forInlineBody(responseDefinition),
                 responseDefinition.getTextBody());
-        applyTemplatedResponseBody(newResponseDefBuilder, model, bodyTemplate, isJsonBody);
+        applyTemplatedResponseBody(
+            newResponseDefBuilder, model, bodyTemplate, isJsonBody, streamBody);
       } else if (responseDefinition.specifiesBodyFile()) {
         HandlebarsOptimizedTemplate filePathTemplate =
             templateEngine.getUncachedTemplate(responseDefinition.getBodyFileName());
@@ -94,12 +110,12 @@ public class ResponseTemplateTransformer
         if (disableBodyFileTemplating) {
           newResponseDefBuilder.withBodyFile(compiledFilePath);
         } else {
-          TextFile file = files.getTextFileNamed(compiledFilePath);
           HandlebarsOptimizedTemplate bodyTemplate =
               templateEngine.getTemplate(
                   HttpTemplateCacheKey.forFileBody(responseDefinition, compiledFilePath),
-                  file.readContentsAsString());
-          applyTemplatedResponseBody(newResponseDefBuilder, model, bodyTemplate, false);
+                  bodyFileVersion(compiledFilePath),
+                  () -> files.getTextFileNamed(compiledFilePath).readContentsAsString());
+          applyTemplatedResponseBody(newResponseDefBuilder, model, bodyTemplate, false, streamBody);
         }
       }
 
@@ -180,6 +196,19 @@ public class ResponseTemplateTransformer
     }
   }
 
+  // Where the files live on disk, the modification time and length are enough to tell that a file
+  // has changed without reading it. Otherwise the cached template is kept until the cache is
+  // invalidated, which happens whenever stubs are removed or reset.
+  private Object bodyFileVersion(String path) {
+    final String rootPath = files.getPath();
+    if (rootPath == null || rootPath.isEmpty()) {
+      return null;
+    }
+
+    final File file = new File(path).isAbsolute() ? new File(path) : new File(rootPath, path);
+    return List.of(file.lastModified(), file.length());
+  }
+
   private static String cleanUpHandlebarsErrorMessage(String rawMessage) {
     return rawMessage.replaceAll("inline@[a-z0-9]+:", "").replaceAll("\n.*", "");
   }
@@ -197,7 +226,16 @@ public class ResponseTemplateTransformer
       ResponseDefinitionBuilder newResponseDefBuilder,
       Map<String, Object> model,
       HandlebarsOptimizedTemplate bodyTemplate,
-      boolean isJsonBody) {
+      boolean isJsonBody,
+      boolean streamBody) {
+    if (streamBody) {
+      newResponseDefBuilder.withResponseBody(
+          Body.streamed(
+              new TemplatedBodySource(bodyTemplate, model, RequestCache.getCurrent()),
+              isJsonBody));
+      return;
+    }
+
     String bodyString = uncheckedApplyTemplate(bodyTemplate, model);
     Body body =
         isJsonBody
@@ -210,6 +248,29 @@ public class ResponseTemplateTransformer
     return template.apply(context);
   }
 
+  private static class TemplatedBodySource extends WritableStreamSource {
+
+    private final HandlebarsOptimizedTemplate template;
+    private final Map<String, Object> model;
+    private final RequestCache requestCache;
+
+    TemplatedBodySource(
+        HandlebarsOptimizedTemplate template,
+        Map<String, Object> model,
+        RequestCache requestCache) {
+      this.template = template;
+      this.model = model;
+      this.requestCache = requestCache;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+      final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+      template.apply(model, requestCache, writer);
+      writer.flush();
+    }
+  }
+
   @Override
   public void afterStubRemoved(StubMapping stub) {
     templateEngine.invalidateCache();
@@ -224,6 +285,14 @@ public class ResponseTemplateTransformer
     return templateEngine.getCacheSize();
   }
 
+  public long getCacheHitCount() {
+    return templateEngine.getCacheHitCount();
+  }
+
+  public long getCacheMissCount() {
+    return templateEngine.getCacheMissCount();
+  }
+
   public Long getMaxCacheEntries() {
     return templateEngine.getMaxCacheEntries();
   }
@@ -42,13 +42,17 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class TemplateEngine {
 
   private final Handlebars handlebars;
-  private final Cache<Object, HandlebarsOptimizedTemplate> cache;
+  private final Cache<Object, CachedTemplate> cache;
   private final Long maxCacheEntries;
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
 
   private final List<TemplateModelDataProviderExtension> templateModelDataProviders;
 
@@ -115,12 +119,41 @@ public class TemplateEngine {
   }
 
   public HandlebarsOptimizedTemplate getTemplate(final Object key, final String content) {
+    return getTemplate(key, null, () -> content);
+  }
+
+  /**
+   * Gets a cached template, only calling the content loader when there is no template cached for
+   * the key or the one cached was compiled from a different version of the content.
+   *
+   * @param version identifies the current version of the content, e.g. a file's modification time
+   *     and length. Null if the content is assumed never to change for the key.
+   */
+  public HandlebarsOptimizedTemplate getTemplate(
+      final Object key, final Object version, final Supplier<String> contentLoader) {
     if (maxCacheEntries != null && maxCacheEntries < 1) {
-      return getUncachedTemplate(content);
+      cacheMisses.increment();
+      return getUncachedTemplate(contentLoader.get());
+    }
+
+    final CachedTemplate cached = cache.getIfPresent(key);
+    if (cached != null && Objects.equals(cached.version, version)) {
+      cacheHits.increment();
+      return cached.template;
+    }
+
+    if (cached != null) {
+      cache.asMap().remove(key, cached);
     }
 
     try {
-      return cache.get(key, () -> new HandlebarsOptimizedTemplate(handlebars, content));
+      return cache.get(
+              key,
+              () -> {
+                cacheMisses.increment();
+                return new CachedTemplate(getUncachedTemplate(contentLoader.get()), version);
+              })
+          .template;
     } catch (ExecutionException e) {
       return Exceptions.throwUnchecked(e, HandlebarsOptimizedTemplate.class);
     }
@@ -220,6 +253,14 @@ public class TemplateEngine {
     return cache.size();
   }
 
+  public long getCacheHitCount() {
+    return cacheHits.sum();
+  }
+
+  public long getCacheMissCount() {
+    return cacheMisses.sum();
+  }
+
   public void invalidateCache() {
     cache.invalidateAll();
   }
@@ -227,4 +268,14 @@ public class TemplateEngine {
   public Long getMaxCacheEntries() {
     return maxCacheEntries;
   }
+
+  private static class CachedTemplate {
+    final HandlebarsOptimizedTemplate template;
+    final Object version;
+
+    CachedTemplate(HandlebarsOptimizedTemplate template, Object version) {
+      this.template = template;
+      this.version = version;
+    }
+  }
 }
@@ -15,16 +15,25 @@
  */
 package com.github.tomakehurst.wiremock.http;
 
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 import static com.github.tomakehurst.wiremock.stubbing.ServeEvent.ORIGINAL_SERVE_EVENT_KEY;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 
 import com.github.tomakehurst.wiremock.common.DataTruncationSettings;
 import com.github.tomakehurst.wiremock.common.RequestCache;
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
 import com.github.tomakehurst.wiremock.extension.requestfilter.*;
+import com.github.tomakehurst.wiremock.http.client.StreamedResponseBody;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
 
 public abstract class AbstractRequestHandler implements RequestHandler, RequestEventSource {
 
@@ -53,6 +62,11 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
 
   protected void afterResponseSent(ServeEvent serveEvent, Response response) {}
 
+  /** The serve event handed to the responder, and from there to any page it forwards to. */
+  protected ServeEvent serveEventForResponder(ServeEvent serveEvent, Response response) {
+    return serveEvent;
+  }
+
   @Override
   public void handle(Request request, HttpResponder httpResponder, ServeEvent originalServeEvent) {
     ServeEvent serveEvent = ServeEvent.of(request);
@@ -73,10 +87,61 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
       serveEvent = handleRequest(serveEvent);
     }
 
-    ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
-    responseDefinition.setOriginalRequest(processedRequest);
-    Response response = responseRenderer.render(serveEvent);
-    response = Response.Builder.like(response).protocol(request.getProtocol()).build();
+    serveEvent.getResponseDefinition().setOriginalRequest(processedRequest);
+
+    final ResponderExecutor responderExecutor = new ResponderExecutor();
+    final CompletableFuture<Response> futureResponse =
+        responseRenderer.renderAsync(serveEvent, responderExecutor);
+    final Executor asyncExecutor = futureResponse.isDone() ? null : httpResponder.startAsync();
+    if (asyncExecutor == null) {
+      respond(request, httpResponder, serveEvent, responderExecutor.runUntilDone(futureResponse));
+      return;
+    }
+
+    // The container thread is released here, so the request cache goes with it and the response
+    // is sent from the responder's executor once it's ready
+    responderExecutor.startRunningOn(asyncExecutor);
+    final ServeEvent renderingServeEvent = serveEvent;
+    futureResponse.whenCompleteAsync(
+        (response, error) -> {
+          if (error != null) {
+            notifier().error("Failed to render response", error);
+          }
+
+          try {
+            respond(
+                request,
+                httpResponder,
+                renderingServeEvent,
+                error == null ? response : errorResponse(error));
+          } catch (RuntimeException | Error e) {
+            notifier().error("Failed to send response", e);
+            httpResponder.abortAsync();
+            RequestCache.onRequestEnd();
+          }
+        },
+        asyncExecutor);
+    RequestCache.onRequestEnd();
+  }
+
+  private void respond(
+      Request request, HttpResponder httpResponder, ServeEvent serveEvent, Response response) {
+    final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    final Response.Builder responseBuilder =
+        Response.Builder.like(response).protocol(request.getProtocol());
+    CapturingStreamSource capturedBody = null;
+    // Proxied bodies streamed from upstream aren't captured, as that would hold the whole body in
+    // memory, which is what streaming them avoids
+    if (capturesResponseBodies()
+        && response.getBodyStreamSource() instanceof WritableStreamSource
+        && !(response.getBodyStreamSource() instanceof StreamedResponseBody)) {
+      capturedBody =
+          new CapturingStreamSource(
+              (WritableStreamSource) response.getBodyStreamSource(),
+              dataTruncationSettings.getMaxResponseBodySize());
+      responseBuilder.body(capturedBody);
+    }
+    response = responseBuilder.build();
     serveEvent = serveEvent.complete(response, dataTruncationSettings);
 
     if (logRequests()) {
@@ -94,19 +159,92 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
       listener.requestReceived(request, response);
     }
 
+    final ServeEvent responderServeEvent = serveEventForResponder(serveEvent, response);
     beforeResponseSent(serveEvent, response);
 
     serveEvent.beforeSend();
 
-    Map<String, Object> attributes = Map.of(ORIGINAL_SERVE_EVENT_KEY, serveEvent);
+    Map<String, Object> attributes = Map.of(ORIGINAL_SERVE_EVENT_KEY, responderServeEvent);
     httpResponder.respond(request, response, attributes);
 
     serveEvent.afterSend();
+    // With a delay the body may not have been written yet, in which case none is logged
+    if (capturedBody != null && capturedBody.getCaptured() != null) {
+      serveEvent = serveEvent.withResponseBody(capturedBody.getCaptured());
+    }
     afterResponseSent(serveEvent, response);
 
     RequestCache.onRequestEnd();
   }
 
+  private static Response awaitResponse(CompletableFuture<Response> futureResponse) {
+    try {
+      return futureResponse.join();
+    } catch (CompletionException e) {
+      return throwUnchecked(e.getCause(), Response.class);
+    }
+  }
+
+  /**
+   * Runs the rendering work that's left once an external response arrives, such as response
+   * transformers, which may block. Tasks are held until the responder's executor is known, or, if
+   * the responder can't go async, run by the handler's own thread while it waits for the response.
+   * Either way none of them run on the thread that completed the external work.
+   */
+  private static class ResponderExecutor implements Executor {
+
+    private final BlockingQueue<Runnable> pending = new LinkedBlockingQueue<>();
+    private Executor target;
+
+    @Override
+    public void execute(Runnable task) {
+      final Executor executor;
+      synchronized (this) {
+        executor = target;
+        if (executor == null) {
+          pending.add(task);
+          return;
+        }
+      }
+      executor.execute(task);
+    }
+
+    void startRunningOn(Executor executor) {
+      final List<Runnable> tasks = new ArrayList<>();
+      synchronized (this) {
+        target = executor;
+        pending.drainTo(tasks);
+      }
+      tasks.forEach(executor::execute);
+    }
+
+    Response runUntilDone(CompletableFuture<Response> futureResponse) {
+      // Wakes this thread up if the response fails without any more work being queued
+      futureResponse.whenComplete((response, error) -> pending.add(() -> {}));
+      try {
+        while (!futureResponse.isDone()) {
+          pending.take().run();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return errorResponse(e);
+      }
+
+      return awaitResponse(futureResponse);
+    }
+  }
+
+  private static Response errorResponse(Throwable error) {
+    final Throwable cause =
+        error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
+    return Response.response()
+        .status(HTTP_INTERNAL_ERROR)
+        .body(cause.getClass().getSimpleName() + ": " + cause.getMessage())
+        .build();
+  }
+
   protected String formatRequest(Request request) {
     StringBuilder sb = new StringBuilder();
     sb.append(request.getClientIp())
@@ -133,5 +271,13 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
     return false;
   }
 
+  /**
+   * Whether to keep a copy of generated response bodies as they're sent, for the serve event's
+   * logged response.
+   */
+  protected boolean capturesResponseBodies() {
+    return false;
+  }
+
   protected abstract ServeEvent handleRequest(ServeEvent request);
 }
@@ -24,10 +24,13 @@ public class BasicResponseRenderer implements ResponseRenderer {
   @Override
   public Response render(ServeEvent serveEvent) {
     ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
-    return response()
-        .status(responseDefinition.getStatus())
-        .headers(responseDefinition.getHeaders())
-        .body(responseDefinition.getByteBody())
-        .build();
+    Response.Builder builder =
+        response().status(responseDefinition.getStatus()).headers(responseDefinition.getHeaders());
+
+    // Large admin responses are written straight to the output rather than built up in memory
+    Body body = responseDefinition.getReponseBody();
+    return body.isStreamed()
+        ? builder.body(body.getStreamSource()).build()
+        : builder.body(responseDefinition.getByteBody()).build();
   }
 }
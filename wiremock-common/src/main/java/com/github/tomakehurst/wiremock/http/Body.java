@@ -22,8 +22,11 @@ import static com.github.tomakehurst.wiremock.common.Strings.stringFromBytes;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.github.tomakehurst.wiremock.common.ContentTypes;
+import com.github.tomakehurst.wiremock.common.Exceptions;
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
 import com.github.tomakehurst.wiremock.common.Strings;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -32,6 +35,7 @@ public class Body {
   private final byte[] content;
   private final boolean binary;
   private final boolean json;
+  private final WritableStreamSource streamSource;
 
   public Body(byte[] content) {
     this(content, true);
@@ -41,24 +45,32 @@ public class Body {
     this.content = Strings.bytesFromString(content);
     binary = false;
     json = false;
+    streamSource = null;
   }
 
   private Body(byte[] content, boolean binary) {
-    this.content = content;
-    this.binary = binary;
-    json = false;
+    this(content, binary, false);
   }
 
   private Body(byte[] content, boolean binary, boolean json) {
     this.content = content;
     this.binary = binary;
     this.json = json;
+    streamSource = null;
   }
 
   private Body(JsonNode content) {
     this.content = Json.toByteArray(content);
     binary = false;
     json = true;
+    streamSource = null;
+  }
+
+  private Body(WritableStreamSource streamSource, boolean json) {
+    this.content = null;
+    this.binary = false;
+    this.json = json;
+    this.streamSource = streamSource;
   }
 
   static Body fromBytes(byte[] bytes) {
@@ -78,6 +90,15 @@ public class Body {
         content, !ContentTypes.determineIsTextFromMimeType(contentTypeHeader.mimeTypePart()));
   }
 
+  /**
+   * A text body that is generated each time it's needed rather than held in memory, so that it can
+   * be written straight to the response. Asking for its content as a string or bytes generates it
+   * in full.
+   */
+  public static Body streamed(WritableStreamSource streamSource, boolean json) {
+    return new Body(streamSource, json);
+  }
+
   public static Body fromOneOf(byte[] bytes, String str, JsonNode json, String base64) {
     if (bytes != null) return new Body(bytes);
     if (str != null) return new Body(str);
@@ -94,15 +115,34 @@ public class Body {
   }
 
   public String asString() {
-    return content != null ? stringFromBytes(content) : null;
+    final byte[] bytes = asBytes();
+    return bytes != null ? stringFromBytes(bytes) : null;
   }
 
   public byte[] asBytes() {
-    return content != null ? content : null;
+    if (streamSource != null) {
+      return Exceptions.uncheck(
+          () -> {
+            try (InputStream stream = streamSource.getStream()) {
+              return stream.readAllBytes();
+            }
+          },
+          byte[].class);
+    }
+
+    return content;
   }
 
   public String asBase64() {
-    return encodeBase64(content);
+    return encodeBase64(asBytes());
+  }
+
+  public boolean isStreamed() {
+    return streamSource != null;
+  }
+
+  public WritableStreamSource getStreamSource() {
+    return streamSource;
   }
 
   public boolean isBinary() {
@@ -118,7 +158,7 @@ public class Body {
   }
 
   public boolean isAbsent() {
-    return content == null;
+    return content == null && streamSource == null;
   }
 
   public boolean isPresent() {
@@ -130,16 +170,26 @@ public class Body {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     Body body = (Body) o;
-    return Objects.equals(binary, body.binary) && Arrays.equals(content, body.content);
+    return Objects.equals(binary, body.binary)
+        && Arrays.equals(content, body.content)
+        && Objects.equals(streamSource, body.streamSource);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(Arrays.hashCode(content), binary);
+    return Objects.hash(Arrays.hashCode(content), binary, streamSource);
   }
 
   @Override
   public String toString() {
-    return "Body {" + "content=" + asString() + ", binary=" + binary + ", json=" + json + '}';
+    final String contentDescription = isStreamed() ? "<streamed>" : asString();
+    return "Body {"
+        + "content="
+        + contentDescription
+        + ", binary="
+        + binary
+        + ", json="
+        + json
+        + '}';
   }
 }
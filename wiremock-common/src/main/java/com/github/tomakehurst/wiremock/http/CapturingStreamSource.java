@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import com.github.tomakehurst.wiremock.common.Limit;
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes a generated body through to wherever it's written, keeping a copy of up to a limited
+ * number of its bytes, so that the body can be logged as it was sent rather than being generated
+ * a second time.
+ */
+class CapturingStreamSource extends WritableStreamSource implements Closeable {
+
+  private final WritableStreamSource source;
+  private final Limit limit;
+  private volatile byte[] captured;
+
+  CapturingStreamSource(WritableStreamSource source, Limit limit) {
+    this.source = source;
+    this.limit = limit == null ? Limit.UNLIMITED : limit;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    try {
+      source.writeTo(new TeeOutputStream(out, copy, limit));
+    } finally {
+      captured = copy.toByteArray();
+    }
+  }
+
+  /** The bytes written so far, up to the limit, or null if the body hasn't been written yet. */
+  byte[] getCaptured() {
+    return captured;
+  }
+
+  /** Releases whatever the wrapped source holds if it isn't written, e.g. when a fault is sent. */
+  @Override
+  public void close() throws IOException {
+    if (source instanceof Closeable) {
+      ((Closeable) source).close();
+    }
+  }
+
+  private static class TeeOutputStream extends FilterOutputStream {
+
+    private final ByteArrayOutputStream copy;
+    private final Limit limit;
+
+    TeeOutputStream(OutputStream out, ByteArrayOutputStream copy, Limit limit) {
+      super(out);
+      this.copy = copy;
+      this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      if (!limit.isExceededBy(copy.size() + 1)) {
+        copy.write(b);
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      final int room = limit.isUnlimited() ? len : Math.max(limit.getValue() - copy.size(), 0);
+      copy.write(b, off, Math.min(len, room));
+    }
+
+    @Override
+    public void close() throws IOException {
+      // The container closes its own stream once the whole response has been written
+      flush();
+    }
+  }
+}
@@ -38,12 +38,17 @@ import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.classic.methods.*;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.DefaultAuthenticationStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.HostnameVerificationPolicy;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.HttpHost;
@@ -97,14 +102,9 @@ public class HttpClientFactory {
     if (proxySettings != NO_PROXY) {
       HttpHost proxyHost = new HttpHost(proxySettings.host(), proxySettings.port());
       builder.setProxy(proxyHost);
-      if (isNotEmpty(proxySettings.getUsername()) && isNotEmpty(proxySettings.getPassword())) {
+      if (hasProxyCredentials(proxySettings)) {
         builder.setProxyAuthenticationStrategy(new DefaultAuthenticationStrategy()); // TODO Verify
-        BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
-        credentialsProvider.setCredentials(
-            new AuthScope(proxySettings.host(), proxySettings.port()),
-            new UsernamePasswordCredentials(
-                proxySettings.getUsername(), proxySettings.getPassword().toCharArray()));
-        builder.setDefaultCredentialsProvider(credentialsProvider);
+        builder.setDefaultCredentialsProvider(buildProxyCredentialsProvider(proxySettings));
       }
     }
 
@@ -126,6 +126,89 @@ public class HttpClientFactory {
     return builder.build();
   }
 
+  /**
+   * Builds a non-blocking client, configured in the same way as {@link #createClient(int, int,
+   * ProxySettings, KeyStoreSettings, boolean, List, boolean, NetworkAddressRules, boolean)}. The
+   * client is started before it's returned.
+   */
+  public static CloseableHttpAsyncClient createAsyncClient(
+      int maxConnections,
+      int timeoutMilliseconds,
+      ProxySettings proxySettings,
+      KeyStoreSettings trustStoreSettings,
+      boolean trustAllCertificates,
+      final List<String> trustedHosts,
+      boolean useSystemProperties,
+      NetworkAddressRules networkAddressRules,
+      boolean disableConnectionReuse) {
+
+    HttpAsyncClientBuilder builder =
+        HttpAsyncClientBuilder.create()
+            .disableAuthCaching()
+            .disableAutomaticRetries()
+            .disableCookieManagement()
+            .disableRedirectHandling()
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setResponseTimeout(Timeout.ofMilliseconds(timeoutMilliseconds))
+                    .setProtocolUpgradeEnabled(false)
+                    .build());
+
+    if (disableConnectionReuse) {
+      builder
+          .setConnectionReuseStrategy((request, response, context) -> false)
+          .setKeepAliveStrategy((response, context) -> TimeValue.ZERO_MILLISECONDS);
+    }
+
+    if (useSystemProperties) {
+      builder.useSystemProperties();
+    }
+
+    if (proxySettings != NO_PROXY) {
+      builder.setProxy(new HttpHost(proxySettings.host(), proxySettings.port()));
+      if (hasProxyCredentials(proxySettings)) {
+        builder.setProxyAuthenticationStrategy(new DefaultAuthenticationStrategy());
+        builder.setDefaultCredentialsProvider(buildProxyCredentialsProvider(proxySettings));
+      }
+    }
+
+    final SSLContext sslContext =
+        buildSslContext(trustStoreSettings, trustAllCertificates, trustedHosts);
+    builder.setConnectionManager(
+        PoolingAsyncClientConnectionManagerBuilder.create()
+            .setTlsStrategy(
+                ClientTlsStrategyBuilder.create()
+                    .setSslContext(sslContext)
+                    .setTlsVersions(split(System.getProperty("https.protocols")))
+                    .setCiphers(split(System.getProperty("https.cipherSuites")))
+                    // using Java's hostname verification, as the blocking client does
+                    .setHostnameVerificationPolicy(HostnameVerificationPolicy.BUILTIN)
+                    .setHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+                    .build())
+            .setDnsResolver(new NetworkAddressRulesAdheringDnsResolver(networkAddressRules))
+            .setMaxConnPerRoute(maxConnections)
+            .setMaxConnTotal(maxConnections)
+            .build());
+
+    final CloseableHttpAsyncClient client = builder.build();
+    client.start();
+    return client;
+  }
+
+  private static boolean hasProxyCredentials(ProxySettings proxySettings) {
+    return isNotEmpty(proxySettings.getUsername()) && isNotEmpty(proxySettings.getPassword());
+  }
+
+  private static BasicCredentialsProvider buildProxyCredentialsProvider(
+      ProxySettings proxySettings) {
+    BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+    credentialsProvider.setCredentials(
+        new AuthScope(proxySettings.host(), proxySettings.port()),
+        new UsernamePasswordCredentials(
+            proxySettings.getUsername(), proxySettings.getPassword().toCharArray()));
+    return credentialsProvider;
+  }
+
   private static LayeredConnectionSocketFactory buildSslConnectionSocketFactory(
       final SSLContext sslContext) {
     final String[] supportedProtocols = split(System.getProperty("https.protocols"));
@@ -16,7 +16,23 @@
 package com.github.tomakehurst.wiremock.http;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 public interface HttpResponder {
   void respond(Request request, Response response, Map<String, Object> attributes);
+
+  /**
+   * Called when the response isn't ready yet, so that it can be sent after the request handler has
+   * returned. Returns the executor to send it from, or null if the response has to be sent from
+   * the calling thread, in which case the handler waits for it.
+   */
+  default Executor startAsync() {
+    return null;
+  }
+
+  /**
+   * Called if the handler fails after {@link #startAsync()}, so that the request isn't left open.
+   * Does nothing if {@link #respond} has already been called, as that finishes the request itself.
+   */
+  default void abortAsync() {}
 }
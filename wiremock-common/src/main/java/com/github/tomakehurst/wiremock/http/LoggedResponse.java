@@ -21,8 +21,11 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.tomakehurst.wiremock.common.Encoding;
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
 import com.github.tomakehurst.wiremock.common.Limit;
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
 import com.github.tomakehurst.wiremock.common.Strings;
+import com.github.tomakehurst.wiremock.http.client.StreamedResponseBody;
 import java.nio.charset.Charset;
 
 public class LoggedResponse {
@@ -54,10 +57,38 @@ public class LoggedResponse {
         response.getHeaders() == null || response.getHeaders().all().isEmpty()
             ? null
             : response.getHeaders(),
-        response.getBody(responseBodySizeLimit),
+        loggableBody(response, responseBodySizeLimit),
         response.getFault());
   }
 
+  private static byte[] loggableBody(Response response, Limit responseBodySizeLimit) {
+    final InputStreamSource bodySource = response.getBodyStreamSource();
+    if (bodySource instanceof CapturingStreamSource) {
+      return ((CapturingStreamSource) bodySource).getCaptured();
+    }
+
+    // Generated bodies are only logged as captured while being sent, as generating them here too
+    // would mean doing it twice and holding the whole body in memory
+    if (bodySource instanceof WritableStreamSource || isUnreadStreamedBody(response)) {
+      return null;
+    }
+
+    return response.getBody(responseBodySizeLimit);
+  }
+
+  /** A copy of this response with the body that was captured as it was sent. */
+  public LoggedResponse withBody(byte[] body) {
+    return new LoggedResponse(status, headers, body, fault);
+  }
+
+  // Reading a body that's still arriving from upstream would hold up the response until all of it
+  // had arrived, so bodies that nothing else has needed in full aren't logged.
+  private static boolean isUnreadStreamedBody(Response response) {
+    final InputStreamSource bodySource = response.getBodyStreamSource();
+    return bodySource instanceof StreamedResponseBody
+        && !((StreamedResponseBody) bodySource).isBuffered();
+  }
+
   public int getStatus() {
     return status;
   }
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.http;
 
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.http.Response.response;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 
@@ -30,6 +31,9 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import javax.net.ssl.SSLException;
 
@@ -42,6 +46,7 @@ public class ProxyResponseRenderer implements ResponseRenderer {
   private final SettingsStore settingsStore;
   private final boolean stubCorsEnabled;
   private final Set<String> supportedEncodings;
+  private final BooleanSupplier streamResponseBodies;
 
   @SuppressWarnings("unused")
   public ProxyResponseRenderer(
@@ -71,6 +76,31 @@ public class ProxyResponseRenderer implements ResponseRenderer {
       HttpClient reverseProxyClient,
       HttpClient forwardProxyClient) {
 
+    this(
+        preserveHostHeader,
+        hostHeaderValue,
+        settingsStore,
+        stubCorsEnabled,
+        supportedEncodings,
+        reverseProxyClient,
+        forwardProxyClient,
+        () -> false);
+  }
+
+  /**
+   * @param streamResponseBodies checked for each request, and when true upstream response bodies
+   *     are passed on to the client as they arrive rather than being read in full first.
+   */
+  public ProxyResponseRenderer(
+      boolean preserveHostHeader,
+      String hostHeaderValue,
+      SettingsStore settingsStore,
+      boolean stubCorsEnabled,
+      Set<String> supportedEncodings,
+      HttpClient reverseProxyClient,
+      HttpClient forwardProxyClient,
+      BooleanSupplier streamResponseBodies) {
+
     this.settingsStore = settingsStore;
     this.preserveHostHeader = preserveHostHeader;
     this.hostHeaderValue = hostHeaderValue;
@@ -79,20 +109,56 @@ public class ProxyResponseRenderer implements ResponseRenderer {
 
     this.forwardProxyClient = forwardProxyClient;
     this.reverseProxyClient = reverseProxyClient;
+    this.streamResponseBodies = streamResponseBodies;
   }
 
   @Override
   public Response render(ServeEvent serveEvent) {
-    ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    final Request request = buildUpstreamRequest(responseDefinition);
+    final HttpClient client = chooseClient(serveEvent.getRequest().isBrowserProxyRequest());
 
+    try {
+      final Response httpResponse =
+          streamResponseBodies.getAsBoolean()
+              ? client.executeStreaming(request)
+              : client.execute(request);
+      return toProxiedResponse(httpResponse, responseDefinition);
+    } catch (ProhibitedNetworkAddressException | IOException e) {
+      return errorResponse(e, request);
+    }
+  }
+
+  /**
+   * Renders without holding up the calling thread while waiting for the proxy target, if the
+   * client supports it. Streamed responses are always rendered on the calling thread.
+   */
+  @Override
+  public CompletableFuture<Response> renderAsync(ServeEvent serveEvent) {
+    if (streamResponseBodies.getAsBoolean()) {
+      return CompletableFuture.completedFuture(render(serveEvent));
+    }
+
+    final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    final Request request = buildUpstreamRequest(responseDefinition);
+    final HttpClient client = chooseClient(serveEvent.getRequest().isBrowserProxyRequest());
+
+    return client
+        .executeAsync(request)
+        .handle(
+            (httpResponse, error) ->
+                error == null
+                    ? toProxiedResponse(httpResponse, responseDefinition)
+                    : errorResponse(unwrap(error), request));
+  }
+
+  private Request buildUpstreamRequest(ResponseDefinition responseDefinition) {
     final ImmutableRequest.Builder requestBuilder =
         ImmutableRequest.create()
             .withAbsoluteUrl(responseDefinition.getProxyUrl())
             .withMethod(responseDefinition.getOriginalRequest().getMethod());
     addRequestHeaders(requestBuilder, responseDefinition);
 
-    GlobalSettings settings = settingsStore.get();
-
     Request originalRequest = responseDefinition.getOriginalRequest();
 
     boolean originalRequestBodyExists =
@@ -102,33 +168,44 @@ public class ProxyResponseRenderer implements ResponseRenderer {
       requestBuilder.withBody(originalRequest.getBody());
     }
 
-    Request request = requestBuilder.build();
+    return requestBuilder.build();
+  }
 
-    HttpClient client = chooseClient(serveEvent.getRequest().isBrowserProxyRequest());
+  private Response toProxiedResponse(Response httpResponse, ResponseDefinition responseDefinition) {
+    GlobalSettings settings = settingsStore.get();
+    return Response.Builder.like(httpResponse)
+        .fromProxy(true)
+        .headers(headersFrom(httpResponse, responseDefinition))
+        .configureDelay(
+            settings.getFixedDelay(),
+            settings.getDelayDistribution(),
+            responseDefinition.getFixedDelayMilliseconds(),
+            responseDefinition.getDelayDistribution())
+        .chunkedDribbleDelay(responseDefinition.getChunkedDribbleDelay())
+        .build();
+  }
 
-    try {
-      final Response httpResponse = client.execute(request);
-      return Response.Builder.like(httpResponse)
-          .fromProxy(true)
-          .headers(headersFrom(httpResponse, responseDefinition))
-          .configureDelay(
-              settings.getFixedDelay(),
-              settings.getDelayDistribution(),
-              responseDefinition.getFixedDelayMilliseconds(),
-              responseDefinition.getDelayDistribution())
-          .chunkedDribbleDelay(responseDefinition.getChunkedDribbleDelay())
-          .build();
-    } catch (ProhibitedNetworkAddressException e) {
+  private Response errorResponse(Throwable e, Request request) {
+    if (e instanceof ProhibitedNetworkAddressException
+        || e.getCause() instanceof ProhibitedNetworkAddressException) {
       return response()
           .status(HTTP_INTERNAL_ERROR)
           .headers(new HttpHeaders(new HttpHeader("Content-Type", "text/plain")))
           .body("The target proxy address is denied in WireMock's configuration.")
           .build();
-    } catch (SSLException e) {
-      return proxyResponseError("SSL", request, e);
-    } catch (IOException e) {
-      return proxyResponseError("Network", request, e);
+    } else if (e instanceof SSLException) {
+      return proxyResponseError("SSL", request, (Exception) e);
+    } else if (e instanceof IOException) {
+      return proxyResponseError("Network", request, (Exception) e);
     }
+
+    return throwUnchecked(e, Response.class);
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
   }
 
   private Response proxyResponseError(String type, Request request, Exception e) {
@@ -16,8 +16,27 @@
 package com.github.tomakehurst.wiremock.http;
 
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public interface ResponseRenderer {
 
   Response render(ServeEvent serveEvent);
+
+  /**
+   * Renders the response, completing the future from another thread if waiting on something
+   * external, e.g. a proxy target. Renderers that can't do this render on the calling thread.
+   */
+  default CompletableFuture<Response> renderAsync(ServeEvent serveEvent) {
+    return CompletableFuture.completedFuture(render(serveEvent));
+  }
+
+  /**
+   * Like {@link #renderAsync(ServeEvent)}, but any work left once the external response has
+   * arrived, such as applying response transformers, is run on the given executor rather than on
+   * the thread that completed it.
+   */
+  default CompletableFuture<Response> renderAsync(ServeEvent serveEvent, Executor executor) {
+    return renderAsync(serveEvent);
+  }
 }
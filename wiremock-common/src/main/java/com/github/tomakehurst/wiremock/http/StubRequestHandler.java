@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,10 @@ package com.github.tomakehurst.wiremock.http;
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 import static com.github.tomakehurst.wiremock.extension.ServeEventListener.RequestPhase.*;
 import static com.github.tomakehurst.wiremock.extension.ServeEventListenerUtils.triggerListeners;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 
 import com.github.tomakehurst.wiremock.common.DataTruncationSettings;
+import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
 import com.github.tomakehurst.wiremock.core.StubServer;
@@ -33,9 +35,13 @@ import com.github.tomakehurst.wiremock.verification.diff.DiffEventData;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 public class StubRequestHandler extends AbstractRequestHandler {
 
+  private static final String NOT_MATCHED_PLAIN_REPORT =
+      "Request was not matched. See the request journal for the near miss report.\n";
+
   private final StubServer stubServer;
   private final Admin admin;
   private final Map<String, PostServeAction> postServeActions;
@@ -44,6 +50,7 @@ public class StubRequestHandler extends AbstractRequestHandler {
   private final boolean loggingDisabled;
 
   private final NotMatchedRenderer notMatchedRenderer;
+  private final Executor notMatchedRenderingExecutor;
 
   public StubRequestHandler(
       StubServer stubServer,
@@ -57,6 +64,39 @@ public class StubRequestHandler extends AbstractRequestHandler {
       boolean loggingDisabled,
       DataTruncationSettings dataTruncationSettings,
       NotMatchedRenderer notMatchedRenderer) {
+    this(
+        stubServer,
+        responseRenderer,
+        admin,
+        postServeActions,
+        serveEventListeners,
+        requestJournal,
+        requestFilters,
+        v2RequestFilters,
+        loggingDisabled,
+        dataTruncationSettings,
+        notMatchedRenderer,
+        null);
+  }
+
+  /**
+   * @param notMatchedRenderingExecutor if not null, near miss reports for unmatched requests are
+   *     rendered on this executor instead of the request thread, and attached to the journalled
+   *     serve event once ready. The response itself always carries a short plain report.
+   */
+  public StubRequestHandler(
+      StubServer stubServer,
+      ResponseRenderer responseRenderer,
+      Admin admin,
+      Map<String, PostServeAction> postServeActions,
+      Map<String, ServeEventListener> serveEventListeners,
+      RequestJournal requestJournal,
+      List<RequestFilter> requestFilters,
+      List<RequestFilterV2> v2RequestFilters,
+      boolean loggingDisabled,
+      DataTruncationSettings dataTruncationSettings,
+      NotMatchedRenderer notMatchedRenderer,
+      Executor notMatchedRenderingExecutor) {
     super(responseRenderer, requestFilters, v2RequestFilters, dataTruncationSettings);
     this.stubServer = stubServer;
     this.admin = admin;
@@ -65,6 +105,7 @@ public class StubRequestHandler extends AbstractRequestHandler {
     this.requestJournal = requestJournal;
     this.loggingDisabled = loggingDisabled;
     this.notMatchedRenderer = notMatchedRenderer;
+    this.notMatchedRenderingExecutor = notMatchedRenderingExecutor;
   }
 
   @Override
@@ -78,10 +119,38 @@ public class StubRequestHandler extends AbstractRequestHandler {
     return !loggingDisabled;
   }
 
+  @Override
+  protected boolean capturesResponseBodies() {
+    return true;
+  }
+
+  @Override
+  protected ServeEvent serveEventForResponder(ServeEvent serveEvent, Response response) {
+    if (notMatchedRenderingExecutor == null || response.wasConfigured()) {
+      return serveEvent;
+    }
+
+    // The background report could be attached at any point while the not matched page is being
+    // written, so the page is always given a copy of the serve event with the plain report instead
+    final ServeEvent pageServeEvent = serveEvent.withSeparateSubEvents();
+    pageServeEvent.appendSubEvent(
+        SubEvent.NON_MATCH_TYPE,
+        new DiffEventData(HTTP_NOT_FOUND, "text/plain", NOT_MATCHED_PLAIN_REPORT));
+    return pageServeEvent;
+  }
+
   @Override
   protected void beforeResponseSent(ServeEvent serveEvent, Response response) {
     if (!response.wasConfigured()) {
-      appendNonMatchSubEvent(serveEvent);
+      if (notMatchedRenderingExecutor != null) {
+        notMatchedRenderingExecutor.execute(
+            () -> {
+              appendNonMatchSubEvent(serveEvent);
+              RequestCache.onRequestEnd();
+            });
+      } else {
+        appendNonMatchSubEvent(serveEvent);
+      }
     }
 
     requestJournal.requestReceived(serveEvent);
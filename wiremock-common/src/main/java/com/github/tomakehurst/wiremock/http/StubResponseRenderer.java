@@ -30,6 +30,8 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class StubResponseRenderer implements ResponseRenderer {
 
@@ -62,8 +64,33 @@ public class StubResponseRenderer implements ResponseRenderer {
       return Response.notConfigured();
     }
 
-    Response response = buildResponse(serveEvent);
+    return transform(buildResponse(serveEvent), serveEvent);
+  }
+
+  @Override
+  public CompletableFuture<Response> renderAsync(ServeEvent serveEvent) {
+    return renderAsync(serveEvent, Runnable::run);
+  }
+
+  @Override
+  public CompletableFuture<Response> renderAsync(ServeEvent serveEvent, Executor executor) {
+    ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    if (!responseDefinition.wasConfigured() || !responseDefinition.isProxyResponse()) {
+      return CompletableFuture.completedFuture(render(serveEvent));
+    }
+
+    final CompletableFuture<Response> proxyResponse = proxyResponseRenderer.renderAsync(serveEvent);
+    if (proxyResponse.isDone()) {
+      // Rendered on this thread, so there's no I/O thread to keep the transformers off
+      return proxyResponse.thenApply(response -> transform(response, serveEvent));
+    }
 
+    // Transformers can block, so they're kept off the HTTP client's I/O threads
+    return proxyResponse.thenApplyAsync(response -> transform(response, serveEvent), executor);
+  }
+
+  private Response transform(Response response, ServeEvent serveEvent) {
+    ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
     response =
         applyTransformations(
             responseDefinition.getOriginalRequest(),
@@ -71,9 +98,7 @@ public class StubResponseRenderer implements ResponseRenderer {
             response,
             responseTransformers);
 
-    response = applyV2Transformations(response, serveEvent, v2ResponseTransformers);
-
-    return response;
+    return applyV2Transformations(response, serveEvent, v2ResponseTransformers);
   }
 
   private Response buildResponse(ServeEvent serveEvent) {
@@ -161,6 +186,8 @@ public class StubResponseRenderer implements ResponseRenderer {
       final InputStreamSource bodyStreamSource =
           filesBlobStore.getStreamSource(responseDefinition.getBodyFileName());
       responseBuilder.body(bodyStreamSource);
+    } else if (responseDefinition.getReponseBody().isStreamed()) {
+      responseBuilder.body(responseDefinition.getReponseBody().getStreamSource());
     } else if (responseDefinition.specifiesBodyContent()) {
       responseBuilder.body(responseDefinition.getByteBody());
     }
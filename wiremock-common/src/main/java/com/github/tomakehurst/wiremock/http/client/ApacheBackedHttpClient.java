@@ -20,6 +20,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toUnmodifiableList;
 
+import com.github.tomakehurst.wiremock.common.Gzip;
 import com.github.tomakehurst.wiremock.http.HttpHeader;
 import com.github.tomakehurst.wiremock.http.HttpHeaders;
 import com.github.tomakehurst.wiremock.http.Request;
@@ -28,23 +29,66 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.apache.hc.client5.http.ClientProtocolException;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
 import org.apache.hc.client5.http.entity.GzipCompressingEntity;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.routing.RoutingSupport;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.*;
 import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.InputStreamEntity;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.io.CloseMode;
 
 public class ApacheBackedHttpClient implements HttpClient {
 
   private final CloseableHttpClient apacheHttpClient;
+  private final Supplier<CloseableHttpAsyncClient> apacheAsyncHttpClientFactory;
+  private final AtomicReference<CloseableHttpAsyncClient> apacheAsyncHttpClient =
+      new AtomicReference<>();
   private final boolean preserveUserAgentProxyHeader;
 
   public ApacheBackedHttpClient(
       CloseableHttpClient apacheHttpClient, boolean preserveUserAgentProxyHeader) {
+    this(apacheHttpClient, (Supplier<CloseableHttpAsyncClient>) null, preserveUserAgentProxyHeader);
+  }
+
+  /**
+   * @param apacheAsyncHttpClient used for {@link #executeAsync(Request)}, or null to run requests
+   *     on the calling thread with the blocking client.
+   */
+  public ApacheBackedHttpClient(
+      CloseableHttpClient apacheHttpClient,
+      CloseableHttpAsyncClient apacheAsyncHttpClient,
+      boolean preserveUserAgentProxyHeader) {
+    this(
+        apacheHttpClient,
+        apacheAsyncHttpClient != null ? constant(apacheAsyncHttpClient) : null,
+        preserveUserAgentProxyHeader);
+  }
+
+  /**
+   * @param apacheAsyncHttpClientFactory starts the client used for {@link #executeAsync(Request)}
+   *     when it's first needed, and again if it's needed after {@link #close()}, or null to run
+   *     requests on the calling thread with the blocking client.
+   */
+  public ApacheBackedHttpClient(
+      CloseableHttpClient apacheHttpClient,
+      Supplier<CloseableHttpAsyncClient> apacheAsyncHttpClientFactory,
+      boolean preserveUserAgentProxyHeader) {
     this.apacheHttpClient = apacheHttpClient;
+    this.apacheAsyncHttpClientFactory = apacheAsyncHttpClientFactory;
     this.preserveUserAgentProxyHeader = preserveUserAgentProxyHeader;
   }
 
@@ -54,6 +98,104 @@ public class ApacheBackedHttpClient implements HttpClient {
     return apacheHttpClient.execute(apacheRequest, ApacheBackedHttpClient::toWireMockHttpResponse);
   }
 
+  @Override
+  public Response executeStreaming(Request request) throws IOException {
+    ClassicHttpRequest apacheRequest = createApacheRequest(request, preserveUserAgentProxyHeader);
+    final ClassicHttpResponse apacheResponse =
+        apacheHttpClient.executeOpen(determineTarget(apacheRequest), apacheRequest, null);
+
+    try {
+      final Response.Builder responseBuilder = toWireMockHttpResponseBuilder(apacheResponse);
+      final HttpEntity entity = apacheResponse.getEntity();
+      if (entity != null) {
+        responseBuilder.body(new StreamedResponseBody(entity.getContent(), apacheResponse));
+      } else {
+        apacheResponse.close();
+      }
+
+      return responseBuilder.build();
+    } catch (IOException | RuntimeException e) {
+      apacheResponse.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public CompletableFuture<Response> executeAsync(Request request) {
+    if (apacheAsyncHttpClientFactory == null) {
+      return HttpClient.super.executeAsync(request);
+    }
+
+    final CompletableFuture<Response> futureResponse = new CompletableFuture<>();
+    final CloseableHttpAsyncClient client = asyncClient();
+    client.execute(
+        SimpleRequestProducer.create(createSimpleRequest(request, preserveUserAgentProxyHeader)),
+        SimpleResponseConsumer.create(),
+        new FutureCallback<>() {
+          @Override
+          public void completed(SimpleHttpResponse apacheResponse) {
+            final Response.Builder responseBuilder =
+                toWireMockHttpResponseBuilder(apacheResponse);
+            if (apacheResponse.getBodyBytes() != null) {
+              responseBuilder.body(apacheResponse.getBodyBytes());
+            }
+
+            futureResponse.complete(responseBuilder.build());
+          }
+
+          @Override
+          public void failed(Exception e) {
+            futureResponse.completeExceptionally(e);
+          }
+
+          @Override
+          public void cancelled() {
+            futureResponse.cancel(false);
+          }
+        });
+
+    return futureResponse;
+  }
+
+  private static Supplier<CloseableHttpAsyncClient> constant(CloseableHttpAsyncClient client) {
+    return () -> client;
+  }
+
+  private CloseableHttpAsyncClient asyncClient() {
+    final CloseableHttpAsyncClient existing = apacheAsyncHttpClient.get();
+    if (existing != null) {
+      return existing;
+    }
+
+    synchronized (apacheAsyncHttpClient) {
+      if (apacheAsyncHttpClient.get() == null) {
+        apacheAsyncHttpClient.set(apacheAsyncHttpClientFactory.get());
+      }
+      return apacheAsyncHttpClient.get();
+    }
+  }
+
+  /** Stops the async client's I/O reactor, if it was started. */
+  @Override
+  public void close() {
+    final CloseableHttpAsyncClient client;
+    synchronized (apacheAsyncHttpClient) {
+      client = apacheAsyncHttpClient.getAndSet(null);
+    }
+    if (client != null) {
+      client.close(CloseMode.GRACEFUL);
+    }
+  }
+
+  private static HttpHost determineTarget(ClassicHttpRequest request)
+      throws ClientProtocolException {
+    try {
+      return RoutingSupport.determineHost(request);
+    } catch (HttpException e) {
+      throw new ClientProtocolException(e);
+    }
+  }
+
   private static ClassicHttpRequest createApacheRequest(
       Request request, boolean preserveUserAgentProxyHeader) {
     ContentType contentType =
@@ -64,18 +206,7 @@ public class ApacheBackedHttpClient implements HttpClient {
     final ClassicRequestBuilder requestBuilder =
         ClassicRequestBuilder.create(request.getMethod().getName())
             .setUri(request.getAbsoluteUrl())
-            .setHeaders(
-                request.getHeaders().all().stream()
-                    .filter(
-                        header ->
-                            !FORBIDDEN_REQUEST_HEADERS.contains(header.key().toLowerCase())
-                                || (preserveUserAgentProxyHeader
-                                    && header.key().equalsIgnoreCase(USER_AGENT)))
-                    .flatMap(
-                        header ->
-                            header.values().stream()
-                                .map(headerValue -> new BasicHeader(header.key(), headerValue)))
-                    .toArray(Header[]::new));
+            .setHeaders(proxiedRequestHeaders(request, preserveUserAgentProxyHeader));
 
     if (request.getBody() != null) {
       HttpEntity entity =
@@ -91,18 +222,67 @@ public class ApacheBackedHttpClient implements HttpClient {
     return requestBuilder.build();
   }
 
+  private static SimpleHttpRequest createSimpleRequest(
+      Request request, boolean preserveUserAgentProxyHeader) {
+    final SimpleRequestBuilder requestBuilder =
+        SimpleRequestBuilder.create(request.getMethod().getName())
+            .setUri(request.getAbsoluteUrl())
+            .setHeaders(proxiedRequestHeaders(request, preserveUserAgentProxyHeader));
+
+    if (request.getBody() != null) {
+      final byte[] body =
+          isGzipRequired(request) ? Gzip.gzip(request.getBody()) : request.getBody();
+      requestBuilder.setBody(
+          body,
+          request.contentTypeHeader().isPresent()
+              ? ContentType.parse(request.contentTypeHeader().firstValue())
+              : null);
+    }
+
+    return requestBuilder.build();
+  }
+
+  private static Header[] proxiedRequestHeaders(
+      Request request, boolean preserveUserAgentProxyHeader) {
+    return request.getHeaders().all().stream()
+        .filter(
+            header ->
+                !FORBIDDEN_REQUEST_HEADERS.contains(header.key().toLowerCase())
+                    || (preserveUserAgentProxyHeader && header.key().equalsIgnoreCase(USER_AGENT)))
+        .flatMap(
+            header ->
+                header.values().stream()
+                    .map(headerValue -> new BasicHeader(header.key(), headerValue)))
+        .toArray(Header[]::new);
+  }
+
   private static HttpEntity applyGzipWrapperIfRequired(
       Request originalRequest, HttpEntity content) {
-    if (originalRequest.containsHeader(CONTENT_ENCODING)
-        && originalRequest.header(CONTENT_ENCODING).firstValue().contains("gzip")) {
+    if (isGzipRequired(originalRequest)) {
       return new GzipCompressingEntity(content);
     }
 
     return content;
   }
 
+  private static boolean isGzipRequired(Request originalRequest) {
+    return originalRequest.containsHeader(CONTENT_ENCODING)
+        && originalRequest.header(CONTENT_ENCODING).firstValue().contains("gzip");
+  }
+
   private static Response toWireMockHttpResponse(ClassicHttpResponse apacheResponse)
       throws IOException {
+    final Response.Builder responseBuilder = toWireMockHttpResponseBuilder(apacheResponse);
+
+    final HttpEntity entity = apacheResponse.getEntity();
+    if (entity != null) {
+      responseBuilder.body(EntityUtils.toByteArray(entity));
+    }
+
+    return responseBuilder.build();
+  }
+
+  private static Response.Builder toWireMockHttpResponseBuilder(HttpResponse apacheResponse) {
     final List<HttpHeader> headers =
         Arrays.stream(apacheResponse.getHeaders())
             .collect(groupingBy(NameValuePair::getName))
@@ -121,17 +301,15 @@ public class ApacheBackedHttpClient implements HttpClient {
         response()
             .status(apacheResponse.getCode())
             .headers(new HttpHeaders(headers))
-            .protocol(apacheResponse.getVersion().toString());
-
-    final HttpEntity entity = apacheResponse.getEntity();
-    if (entity != null) {
-      responseBuilder.body(EntityUtils.toByteArray(entity));
-    }
+            .protocol(
+                apacheResponse.getVersion() != null
+                    ? apacheResponse.getVersion().toString()
+                    : null);
 
     if (apacheResponse.getReasonPhrase() != null) {
       responseBuilder.statusMessage(apacheResponse.getReasonPhrase());
     }
 
-    return responseBuilder.build();
+    return responseBuilder;
   }
 }
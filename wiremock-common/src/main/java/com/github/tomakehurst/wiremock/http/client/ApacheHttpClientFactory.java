@@ -17,6 +17,8 @@ package com.github.tomakehurst.wiremock.http.client;
 
 import com.github.tomakehurst.wiremock.core.Options;
 import java.util.List;
+import java.util.function.Supplier;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 
 public class ApacheHttpClientFactory implements HttpClientFactory {
@@ -39,6 +41,23 @@ public class ApacheHttpClientFactory implements HttpClientFactory {
             options.getProxyTargetRules(),
             options.getDisableConnectionReuse());
 
-    return new ApacheBackedHttpClient(apacheClient, options.shouldPreserveUserAgentProxyHeader());
+    // Started on first use, so that its I/O reactor threads only exist while they're needed
+    final Supplier<CloseableHttpAsyncClient> apacheAsyncClientFactory =
+        options.getAsynchronousProxyingEnabled()
+            ? () ->
+                com.github.tomakehurst.wiremock.http.HttpClientFactory.createAsyncClient(
+                    options.getMaxHttpClientConnections(),
+                    options.proxyTimeout(),
+                    options.proxyVia(),
+                    options.httpsSettings().trustStore(),
+                    trustAllCertificates,
+                    trustedHosts,
+                    useSystemProperties,
+                    options.getProxyTargetRules(),
+                    options.getDisableConnectionReuse())
+            : null;
+
+    return new ApacheBackedHttpClient(
+        apacheClient, apacheAsyncClientFactory, options.shouldPreserveUserAgentProxyHeader());
   }
 }
@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface HttpClient {
 
@@ -35,4 +36,28 @@ public interface HttpClient {
   String ACCEPT_ENCODING_HEADER = "accept-encoding";
 
   Response execute(Request request) throws IOException;
+
+  /**
+   * Like {@link #execute(Request)}, but the body may still be being read from the upstream
+   * connection when the response is returned, in which case it is a {@link StreamedResponseBody}
+   * that must be either read or closed.
+   */
+  default Response executeStreaming(Request request) throws IOException {
+    return execute(request);
+  }
+
+  /**
+   * Like {@link #execute(Request)}, but without holding up the calling thread while waiting for
+   * the response, where the client supports it.
+   */
+  default CompletableFuture<Response> executeAsync(Request request) {
+    try {
+      return CompletableFuture.completedFuture(execute(request));
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /** Releases any threads and connections the client holds. It may still be used afterwards. */
+  default void close() {}
 }
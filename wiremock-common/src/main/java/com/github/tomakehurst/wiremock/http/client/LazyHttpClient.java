@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.common.Lazy;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public class LazyHttpClient implements HttpClient {
@@ -33,4 +34,21 @@ public class LazyHttpClient implements HttpClient {
   public Response execute(Request request) throws IOException {
     return httpClientLazy.get().execute(request);
   }
+
+  @Override
+  public Response executeStreaming(Request request) throws IOException {
+    return httpClientLazy.get().executeStreaming(request);
+  }
+
+  @Override
+  public CompletableFuture<Response> executeAsync(Request request) {
+    return httpClientLazy.get().executeAsync(request);
+  }
+
+  @Override
+  public void close() {
+    if (httpClientLazy.isInitialised()) {
+      httpClientLazy.get().close();
+    }
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.client;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A response body that is still being read from the upstream connection. Writing it passes each
+ * chunk on as it arrives, holding no more than one buffer's worth in memory. If anything asks for
+ * the stream first, e.g. a response transformer, the body is read in full and kept so that it can
+ * be read again.
+ */
+public class StreamedResponseBody extends WritableStreamSource implements Closeable {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final InputStream upstream;
+  private final Closeable connection;
+  // A lock rather than synchronized, as holding a monitor across upstream I/O would pin a virtual
+  // thread to its carrier
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private byte[] buffered;
+  private boolean consumed;
+
+  public StreamedResponseBody(InputStream upstream, Closeable connection) {
+    this.upstream = upstream;
+    this.connection = connection;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    lock.lock();
+    try {
+      if (buffered != null) {
+        out.write(buffered);
+        return;
+      }
+
+      assertNotConsumed();
+      try {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = upstream.read(buffer)) != -1) {
+          out.write(buffer, 0, read);
+          out.flush();
+        }
+      } finally {
+        close();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public InputStream getStream() {
+    lock.lock();
+    try {
+      if (buffered == null) {
+        assertNotConsumed();
+        try {
+          buffered = upstream.readAllBytes();
+        } catch (IOException e) {
+          throwUnchecked(e);
+        } finally {
+          closeQuietly();
+        }
+      }
+
+      return new ByteArrayInputStream(buffered);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Whether the body has been read in full, and so can be read again without consuming it. */
+  public boolean isBuffered() {
+    lock.lock();
+    try {
+      return buffered != null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Releases the upstream connection if the body hasn't been read, e.g. when a fault is sent. */
+  @Override
+  public void close() throws IOException {
+    connection.close();
+  }
+
+  private void assertNotConsumed() {
+    if (consumed) {
+      throw new IllegalStateException("The streamed response body has already been read");
+    }
+
+    consumed = true;
+  }
+
+  private void closeQuietly() {
+    try {
+      close();
+    } catch (IOException e) {
+      // the body has been read, so there's nothing more to lose
+    }
+  }
+}
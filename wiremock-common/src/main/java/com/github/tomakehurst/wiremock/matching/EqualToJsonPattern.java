@@ -76,7 +76,7 @@ public class EqualToJsonPattern extends StringValuePattern {
     final JsonNode actual;
     final Diff diff;
     try {
-      actual = Json.read(value, JsonNode.class);
+      actual = ParsedContent.json(value);
       diff =
           Diff.create(
               expected, // JsonUnit knows how to work with JsonNode
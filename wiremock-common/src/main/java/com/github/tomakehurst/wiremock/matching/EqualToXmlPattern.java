@@ -23,6 +23,7 @@ import static org.xmlunit.diff.ComparisonType.*;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
+import com.github.tomakehurst.wiremock.common.xml.XmlException;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -170,7 +171,7 @@ public class EqualToXmlPattern extends StringValuePattern {
         try {
           DiffBuilder diffBuilder =
               DiffBuilder.compare(Input.from(expectedXmlDoc))
-                  .withTest(value)
+                  .withTest(Input.from(ParsedContent.xmlDom(value, documentBuilderFactory)))
                   .withComparisonController(ComparisonControllers.StopWhenDifferent)
                   .ignoreWhitespace()
                   .withDifferenceEvaluator(diffEvaluator)
@@ -183,7 +184,7 @@ public class EqualToXmlPattern extends StringValuePattern {
           Diff diff = diffBuilder.build();
 
           return !diff.hasDifferences();
-        } catch (XMLUnitException e) {
+        } catch (XMLUnitException | XmlException e) {
           appendSubEvent(SubEvent.warning(e.getMessage()));
 
           notifier()
@@ -211,7 +212,7 @@ public class EqualToXmlPattern extends StringValuePattern {
         try {
           DiffBuilder diffBuilder =
               DiffBuilder.compare(Input.from(expectedValue))
-                  .withTest(value)
+                  .withTest(Input.from(ParsedContent.xmlDom(value, documentBuilderFactory)))
                   .ignoreWhitespace()
                   .withDifferenceEvaluator(diffEvaluator)
                   .withComparisonListeners(
@@ -229,7 +230,7 @@ public class EqualToXmlPattern extends StringValuePattern {
             diffBuilder.ignoreComments();
           }
           diff = diffBuilder.build();
-        } catch (XMLUnitException e) {
+        } catch (XMLUnitException | XmlException e) {
           notifier()
               .info(
                   "Failed to process XML. "
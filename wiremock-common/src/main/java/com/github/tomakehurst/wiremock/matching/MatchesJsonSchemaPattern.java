@@ -101,7 +101,7 @@ public class MatchesJsonSchemaPattern extends StringValuePattern {
 
     JsonNode jsonNode;
     try {
-      jsonNode = Json.read(json, JsonNode.class);
+      jsonNode = ParsedContent.json(json);
     } catch (JsonException je) {
       jsonNode = new TextNode(json);
     }
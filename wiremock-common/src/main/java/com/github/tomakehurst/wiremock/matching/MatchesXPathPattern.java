@@ -111,7 +111,7 @@ public class MatchesXPathPattern extends PathPattern {
     }
 
     try {
-      XmlDocument xmlDocument = Xml.parse(value);
+      XmlDocument xmlDocument = ParsedContent.xml(value);
       return new XmlNodeFindResult(xmlDocument.findNodes(expectedValue, xpathNamespaces));
     } catch (XmlException e) {
       final String message =
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import static com.github.tomakehurst.wiremock.common.RequestCache.Key.keyFor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.RequestCache;
+import com.github.tomakehurst.wiremock.common.xml.Xml;
+import com.github.tomakehurst.wiremock.common.xml.XmlDocument;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.w3c.dom.Document;
+
+/**
+ * Parses values being matched at most once per request, so that a request body evaluated against
+ * many stubs isn't re-parsed for each of them. Failures are cached too, and rethrown each time the
+ * value is asked for. Callers must not modify what they get back.
+ *
+ * <p>Only the few most recently parsed values of each kind are kept, as the request cache isn't
+ * cleared on threads that aren't serving requests, e.g. when verifying against the whole journal.
+ */
+final class ParsedContent {
+
+  static final int MAX_CACHED_VALUES = 8;
+
+  private ParsedContent() {}
+
+  static JsonNode json(String value) {
+    return cached(
+        keyFor(JsonNode.class, "parsedJson"), value, () -> Json.read(value, JsonNode.class));
+  }
+
+  static XmlDocument xml(String value) {
+    return cached(keyFor(XmlDocument.class, "parsedXml"), value, () -> Xml.parse(value));
+  }
+
+  static Document xmlDom(String value, DocumentBuilderFactory documentBuilderFactory) {
+    return cached(
+        keyFor(Document.class, "parsedXmlDom", documentBuilderFactory),
+        value,
+        () -> Xml.read(value, documentBuilderFactory));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T cached(RequestCache.Key key, String value, Supplier<T> parser) {
+    final Map<String, Object> recentlyParsed =
+        RequestCache.getCurrent().get(key, RecentlyParsed::new);
+    final Object result =
+        recentlyParsed.computeIfAbsent(
+            value,
+            v -> {
+              try {
+                return parser.get();
+              } catch (RuntimeException e) {
+                return new ParseFailure(e);
+              }
+            });
+
+    if (result instanceof ParseFailure) {
+      throw ((ParseFailure) result).exception;
+    }
+
+    return (T) result;
+  }
+
+  private static class RecentlyParsed extends LinkedHashMap<String, Object> {
+    RecentlyParsed() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+      return size() > MAX_CACHED_VALUES;
+    }
+  }
+
+  private static class ParseFailure {
+    final RuntimeException exception;
+
+    ParseFailure(RuntimeException exception) {
+      this.exception = exception;
+    }
+  }
+}
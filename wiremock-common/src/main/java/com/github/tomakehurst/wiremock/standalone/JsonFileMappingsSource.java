@@ -16,32 +16,52 @@
 package com.github.tomakehurst.wiremock.standalone;
 
 import static com.github.tomakehurst.wiremock.common.AbstractFileSource.byFileExtension;
-import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.common.Json.writePrivate;
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 
 import com.github.tomakehurst.wiremock.common.*;
 import com.github.tomakehurst.wiremock.common.filemaker.FilenameMaker;
+import com.github.tomakehurst.wiremock.standalone.MappingFileReader.MappingFile;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
-import com.github.tomakehurst.wiremock.stubbing.StubMappingCollection;
 import com.github.tomakehurst.wiremock.stubbing.StubMappings;
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class JsonFileMappingsSource implements MappingsSource {
 
+  private static final int LOAD_BATCH_SIZE = 1000;
+
   private final FileSource mappingsFileSource;
   private final Map<UUID, StubMappingFileMetadata> fileNameMap;
   private final FilenameMaker filenameMaker;
+  private MappingFilesWatcher watcher;
 
   public JsonFileMappingsSource(FileSource mappingsFileSource, FilenameMaker filenameMaker) {
     this.mappingsFileSource = mappingsFileSource;
     this.filenameMaker = Objects.requireNonNullElseGet(filenameMaker, FilenameMaker::new);
-    fileNameMap = new HashMap<>();
+    fileNameMap = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -101,7 +121,7 @@ public class JsonFileMappingsSource implements MappingsSource {
   }
 
   @Override
-  public void loadMappingsInto(StubMappings stubMappings) {
+  public synchronized void loadMappingsInto(StubMappings stubMappings) {
     if (!mappingsFileSource.exists()) {
       return;
     }
@@ -110,21 +130,174 @@ public class JsonFileMappingsSource implements MappingsSource {
         mappingsFileSource.listFilesRecursively().stream()
             .filter(byFileExtension("json"))
             .collect(Collectors.toList());
-    for (TextFile mappingFile : mappingFiles) {
-      try {
-        StubMappingCollection stubCollection =
-            Json.read(mappingFile.readContents(), StubMappingCollection.class);
-        for (StubMapping mapping : stubCollection.getMappingOrMappings()) {
-          mapping.setDirty(false);
-          stubMappings.addMapping(mapping);
-          StubMappingFileMetadata fileMetadata =
-              new StubMappingFileMetadata(mappingFile.getPath(), stubCollection.isMulti());
-          fileNameMap.put(mapping.getId(), fileMetadata);
+
+    // Files are parsed in parallel a batch at a time, which bounds how many are in flight, then
+    // added in file order so that insertion order, and therefore matching priority, is unchanged.
+    // Reading files blocks, so it's done on threads of its own rather than the common pool.
+    final ExecutorService readers = newMappingFileReaders();
+    try {
+      for (int start = 0; start < mappingFiles.size(); start += LOAD_BATCH_SIZE) {
+        final List<CompletableFuture<MappingFile>> reads =
+            mappingFiles
+                .subList(start, Math.min(start + LOAD_BATCH_SIZE, mappingFiles.size()))
+                .stream()
+                .map(
+                    file ->
+                        CompletableFuture.supplyAsync(() -> MappingFileReader.read(file), readers))
+                .collect(Collectors.toList());
+        final List<MappingFile> batch =
+            reads.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        addMappings(batch, stubMappings);
+      }
+    } finally {
+      readers.shutdownNow();
+    }
+  }
+
+  private static ExecutorService newMappingFileReaders() {
+    final AtomicInteger threadCount = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(),
+        runnable -> {
+          final Thread thread =
+              new Thread(runnable, "wiremock-mapping-file-reader-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  private void addMappings(List<MappingFile> mappingFiles, StubMappings stubMappings) {
+    for (MappingFile mappingFile : mappingFiles) {
+      if (mappingFile.failure != null) {
+        throw mappingFile.failure;
+      }
+
+      StubMappingFileMetadata fileMetadata =
+          new StubMappingFileMetadata(mappingFile.path, mappingFile.multi);
+      for (StubMapping mapping : mappingFile.mappings) {
+        mapping.setDirty(false);
+        stubMappings.addMapping(mapping);
+        fileNameMap.put(mapping.getId(), fileMetadata);
+      }
+    }
+  }
+
+  /**
+   * Watches the mappings directory and applies changes to its files to the given stubs as they
+   * happen. Only the stubs from changed files are added, replaced or removed, so large sets of
+   * mappings don't have to be reloaded in full. A file that fails to parse is reported and its
+   * previously loaded stubs are left in place.
+   */
+  public synchronized void startWatching(StubMappings stubMappings) {
+    if (watcher != null) {
+      return;
+    }
+
+    if (!"file".equals(mappingsFileSource.getUri().getScheme()) || !mappingsFileSource.exists()) {
+      notifier()
+          .error(
+              "Can only watch mapping files in an existing directory, not "
+                  + mappingsFileSource.getPath());
+      return;
+    }
+
+    try {
+      watcher =
+          new MappingFilesWatcher(
+              Paths.get(mappingsFileSource.getUri()),
+              MappingFilesWatcher.DEFAULT_DEBOUNCE_MILLIS,
+              changedPaths -> applyChanges(changedPaths, stubMappings));
+    } catch (IOException | UncheckedIOException e) {
+      notifier().error("Failed to watch mapping files in " + mappingsFileSource.getPath(), e);
+    }
+  }
+
+  public synchronized void stopWatching() {
+    if (watcher != null) {
+      watcher.stop();
+      watcher = null;
+    }
+  }
+
+  /**
+   * Brings the stubs loaded from the given paths up to date with the files. A path may be a file
+   * or a directory, and needn't exist any more, in which case its stubs are removed.
+   */
+  synchronized void applyChanges(Collection<Path> changedPaths, StubMappings stubMappings) {
+    final Map<String, List<UUID>> idsByFile = new HashMap<>();
+    fileNameMap.forEach(
+        (id, metadata) -> idsByFile.computeIfAbsent(metadata.path, k -> new ArrayList<>()).add(id));
+
+    // Sorted so that stubs from new files are added in the same order as a full load would
+    final Set<String> toReload = new TreeSet<>();
+    for (Path changedPath : changedPaths) {
+      final String changed = changedPath.toFile().getPath();
+      for (String knownFile : idsByFile.keySet()) {
+        if (knownFile.equals(changed) || knownFile.startsWith(changed + File.separator)) {
+          toReload.add(knownFile);
         }
-      } catch (JsonException e) {
-        throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
-      } catch (IOException e) {
-        throwUnchecked(e);
+      }
+
+      if (Files.isDirectory(changedPath)) {
+        final FileSource directory = new SingleRootFileSource(changedPath.toFile());
+        directory.listFilesRecursively().stream()
+            .filter(byFileExtension("json"))
+            .forEach(file -> toReload.add(file.getPath()));
+      } else if (changed.endsWith(".json")) {
+        toReload.add(changed);
+      }
+    }
+
+    // Every file is loaded before anything is removed, so that a stub that has moved to another
+    // file is never briefly missing, and is only removed if no other file has claimed it since
+    final Map<UUID, String> removed = new LinkedHashMap<>();
+    for (String path : toReload) {
+      reloadFile(path, idsByFile.getOrDefault(path, List.of()), stubMappings, removed);
+    }
+
+    removed.forEach(
+        (id, path) -> {
+          final StubMappingFileMetadata metadata = fileNameMap.get(id);
+          if (metadata != null && metadata.path.equals(path)) {
+            stubMappings.get(id).ifPresent(stubMappings::removeMapping);
+            fileNameMap.remove(id);
+          }
+        });
+  }
+
+  private void reloadFile(
+      String path, List<UUID> previousIds, StubMappings stubMappings, Map<UUID, String> removed) {
+    final File file = new File(path);
+    final MappingFile mappingFile =
+        file.isFile()
+            ? MappingFileReader.read(new TextFile(file.toURI()))
+            : MappingFile.of(path, List.of(), false);
+    if (mappingFile.failure != null) {
+      notifier().error("Failed to reload mapping file " + path, mappingFile.failure);
+      return;
+    }
+
+    final Set<UUID> currentIds = new HashSet<>();
+    final StubMappingFileMetadata fileMetadata =
+        new StubMappingFileMetadata(mappingFile.path, mappingFile.multi);
+    for (StubMapping mapping : mappingFile.mappings) {
+      mapping.setDirty(false);
+      currentIds.add(mapping.getId());
+
+      final Optional<StubMapping> existing = stubMappings.get(mapping.getId());
+      // Unchanged stubs, such as those in files this source has just saved, are left alone
+      if (existing.isEmpty()) {
+        stubMappings.addMapping(mapping);
+      } else if (!existing.get().equals(mapping)) {
+        stubMappings.editMapping(mapping);
+        mapping.setDirty(false);
+      }
+      fileNameMap.put(mapping.getId(), fileMetadata);
+    }
+
+    for (UUID id : previousIds) {
+      if (!currentIds.contains(id)) {
+        removed.put(id, path);
       }
     }
   }
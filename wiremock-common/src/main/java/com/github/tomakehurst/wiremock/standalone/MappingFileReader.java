@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.standalone;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.common.TextFile;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubMappingCollection;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the stub mappings in a mapping file straight from its stream. The mappings in a
+ * multi-mapping file are deserialised one at a time as the parser reaches them, so the file's
+ * content is never held in memory as a whole. Failures are kept rather than thrown, so that files
+ * can be read in parallel and the first failure in file order reported.
+ */
+class MappingFileReader {
+
+  private static final String MAPPINGS_FIELD = "mappings";
+
+  private MappingFileReader() {}
+
+  static MappingFile read(TextFile file) {
+    try (InputStream stream = file.getStream()) {
+      return read(file.getPath(), stream);
+    } catch (JsonProcessingException e) {
+      return failedToParse(file, JsonException.fromJackson(e));
+    } catch (JsonException e) {
+      return failedToParse(file, e);
+    } catch (IOException e) {
+      return MappingFile.failed(file.getPath(), new UncheckedIOException(e));
+    } catch (RuntimeException e) {
+      return MappingFile.failed(file.getPath(), e);
+    }
+  }
+
+  private static MappingFile failedToParse(TextFile file, JsonException e) {
+    return MappingFile.failed(
+        file.getPath(),
+        new MappingFileException(file.getPath(), e.getErrors().first().getDetail()));
+  }
+
+  private static MappingFile read(String path, InputStream stream) throws IOException {
+    final ObjectMapper mapper = Json.getObjectMapper();
+    try (JsonParser parser = mapper.getFactory().createParser(stream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return MappingFile.single(path, mapper.readValue(parser, StubMappingCollection.class));
+      }
+
+      // Anything other than the mappings array is kept aside, in case this turns out to be a
+      // single mapping rather than a collection of them
+      final TokenBuffer otherFields = new TokenBuffer(parser);
+      otherFields.writeStartObject();
+      List<StubMapping> mappings = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.currentName();
+        final JsonToken value = parser.nextToken();
+        if (MAPPINGS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+          mappings = new ArrayList<>();
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            mappings.add(mapper.readValue(parser, StubMapping.class));
+          }
+        } else {
+          otherFields.writeFieldName(field);
+          otherFields.copyCurrentStructure(parser);
+        }
+      }
+      otherFields.writeEndObject();
+
+      if (mappings != null) {
+        return MappingFile.multi(path, mappings);
+      }
+
+      try (JsonParser bufferedParser = otherFields.asParser(mapper)) {
+        return MappingFile.single(
+            path, mapper.readValue(bufferedParser, StubMappingCollection.class));
+      }
+    }
+  }
+
+  static class MappingFile {
+    final String path;
+    final List<? extends StubMapping> mappings;
+    final boolean multi;
+    final RuntimeException failure;
+
+    private MappingFile(
+        String path,
+        List<? extends StubMapping> mappings,
+        boolean multi,
+        RuntimeException failure) {
+      this.path = path;
+      this.mappings = mappings;
+      this.multi = multi;
+      this.failure = failure;
+    }
+
+    static MappingFile single(String path, StubMapping mapping) {
+      return new MappingFile(path, List.of(mapping), false, null);
+    }
+
+    static MappingFile multi(String path, List<StubMapping> mappings) {
+      return new MappingFile(path, mappings, true, null);
+    }
+
+    static MappingFile of(String path, List<StubMapping> mappings, boolean multi) {
+      return new MappingFile(path, mappings, multi, null);
+    }
+
+    static MappingFile failed(String path, RuntimeException failure) {
+      return new MappingFile(path, List.of(), false, failure);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.standalone;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.github.tomakehurst.wiremock.common.Notifier;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Watches a directory tree and reports which paths under it have changed. Changes are collected
+ * until none have arrived for the debounce period, so that a burst of them, such as a checkout or
+ * an editor's save, is reported once. A steady stream of changes is still reported at least every
+ * ten debounce periods.
+ *
+ * <p>A reported path may be a file or a directory, and may no longer exist. A directory means
+ * anything under it may have changed, e.g. because it was created, deleted or renamed, or because
+ * events were lost, in which case the root itself is reported.
+ */
+class MappingFilesWatcher {
+
+  static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+  private final Path root;
+  private final long debounceNanos;
+  private final Consumer<Set<Path>> onChange;
+  private final Notifier notifier;
+  private final WatchService watchService;
+  private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+  private final Thread thread;
+
+  MappingFilesWatcher(Path root, long debounceMillis, Consumer<Set<Path>> onChange)
+      throws IOException {
+    this.root = root;
+    this.debounceNanos = MILLISECONDS.toNanos(debounceMillis);
+    this.onChange = onChange;
+    this.notifier = notifier();
+    this.watchService = root.getFileSystem().newWatchService();
+    registerTree(root);
+
+    thread = new Thread(this::watch, "wiremock-mappings-watcher");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  void stop() {
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      notifier.error("Failed to stop watching " + root, e);
+    }
+  }
+
+  private void watch() {
+    final Set<Path> changed = new LinkedHashSet<>();
+    long firstChangeNanos = 0;
+    try {
+      while (true) {
+        final WatchKey key;
+        if (changed.isEmpty()) {
+          key = watchService.take();
+          firstChangeNanos = System.nanoTime();
+        } else {
+          final long maxWaitNanos = firstChangeNanos + debounceNanos * 10 - System.nanoTime();
+          key = watchService.poll(Math.min(debounceNanos, Math.max(maxWaitNanos, 0)), NANOSECONDS);
+        }
+
+        if (key != null) {
+          collectChanges(key, changed);
+          continue;
+        }
+
+        try {
+          onChange.accept(Set.copyOf(changed));
+        } catch (RuntimeException e) {
+          notifier.error("Failed to apply changes to mapping files", e);
+        }
+        changed.clear();
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // Stopped
+    }
+  }
+
+  private void collectChanges(WatchKey key, Set<Path> changed) {
+    final Path directory = directories.get(key);
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW || directory == null) {
+        changed.add(root);
+        continue;
+      }
+
+      final Path path = directory.resolve((Path) event.context());
+      changed.add(path);
+      if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+        try {
+          registerTree(path);
+        } catch (IOException | UncheckedIOException e) {
+          notifier.error("Failed to watch " + path, e);
+        }
+      }
+    }
+
+    if (!key.reset()) {
+      // The directory has gone, which its parent's events will already have reported
+      directories.remove(key);
+    }
+  }
+
+  private void registerTree(Path start) throws IOException {
+    try (Stream<Path> paths = Files.walk(start)) {
+      paths
+          .filter(Files::isDirectory)
+          .forEach(
+              directory -> {
+                try {
+                  directories.put(
+                      directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE),
+                      directory);
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import static com.github.tomakehurst.wiremock.core.WireMockApp.FILES_ROOT;
 import static com.github.tomakehurst.wiremock.store.Stores.PersistenceType.EPHEMERAL;
 
 import com.github.tomakehurst.wiremock.common.FileSource;
@@ -37,11 +38,28 @@ public class DefaultStores implements Stores {
 
   private final Map<String, ObjectStore> objectStores;
 
+  private final long bodyFileCacheMaxBytes;
+  private volatile BlobStore cachingFilesBlobStore;
+
   public DefaultStores(FileSource fileRoot) {
+    this(fileRoot, new InMemoryRequestJournalStore());
+  }
+
+  public DefaultStores(FileSource fileRoot, RequestJournalStore requestJournalStore) {
+    this(fileRoot, requestJournalStore, 0);
+  }
+
+  /**
+   * @param bodyFileCacheMaxBytes if greater than zero, body files are served from an in-memory
+   *     cache of up to this many bytes
+   */
+  public DefaultStores(
+      FileSource fileRoot, RequestJournalStore requestJournalStore, long bodyFileCacheMaxBytes) {
     this.fileRoot = fileRoot;
+    this.bodyFileCacheMaxBytes = bodyFileCacheMaxBytes;
 
     this.stubMappingStore = new InMemoryStubMappingStore();
-    this.requestJournalStore = new InMemoryRequestJournalStore();
+    this.requestJournalStore = requestJournalStore;
     this.settingsStore = new InMemorySettingsStore();
     this.scenariosStore = new InMemoryScenariosStore();
 
@@ -75,6 +93,19 @@ public class DefaultStores implements Stores {
 
   @Override
   public BlobStore getBlobStore(String name) {
+    if (bodyFileCacheMaxBytes > 0 && FILES_ROOT.equals(name)) {
+      // Shared, so that the cache is only filled once and writes through any caller invalidate it
+      if (cachingFilesBlobStore == null) {
+        synchronized (this) {
+          if (cachingFilesBlobStore == null) {
+            cachingFilesBlobStore =
+                new FileSourceBlobStore(fileRoot.child(name), bodyFileCacheMaxBytes);
+          }
+        }
+      }
+      return cachingFilesBlobStore;
+    }
+
     final FileSource child = fileRoot.child(name);
     return new FileSourceBlobStore(child);
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,10 +15,12 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
@@ -27,11 +29,29 @@ public class InMemoryRequestJournalStore implements RequestJournalStore {
 
   private final Deque<UUID> deque = new ConcurrentLinkedDeque<>();
   private final Map<UUID, ServeEvent> serveEvents = new ConcurrentHashMap<>();
+  private final Map<UUID, Long> sequencesById = new ConcurrentHashMap<>();
+  private final AtomicLong nextSequence = new AtomicLong();
+  private final RequestJournalIndex index;
+
+  public InMemoryRequestJournalStore() {
+    this(false);
+  }
+
+  /**
+   * @param indexed whether to index events by method, URL path and stub, so that verification and
+   *     per-stub queries don't need to scan every event, at the cost of updating the indexes for
+   *     each one
+   */
+  public InMemoryRequestJournalStore(boolean indexed) {
+    this.index = RequestJournalIndex.create(indexed);
+  }
 
   @Override
   public void add(ServeEvent event) {
     serveEvents.put(event.getId(), event);
+    sequencesById.put(event.getId(), nextSequence.getAndIncrement());
     deque.addFirst(event.getId());
+    index.add(event);
   }
 
   @Override
@@ -43,7 +63,11 @@ public class InMemoryRequestJournalStore implements RequestJournalStore {
   public void removeLast() {
     final UUID id = deque.pollLast();
     if (id != null) {
-      serveEvents.remove(id);
+      sequencesById.remove(id);
+      final ServeEvent removed = serveEvents.remove(id);
+      if (removed != null) {
+        index.removeOldest(removed);
+      }
     }
   }
 
@@ -59,20 +83,68 @@ public class InMemoryRequestJournalStore implements RequestJournalStore {
 
   @Override
   public void put(UUID id, ServeEvent event) {
-    if (deque.contains(id)) {
-      serveEvents.put(id, event);
+    final ServeEvent previous = serveEvents.replace(id, event);
+    if (previous != null) {
+      index.replace(previous, event);
     }
   }
 
   @Override
   public void remove(UUID id) {
-    deque.stream().filter(eventId -> eventId.equals(id)).forEach(deque::remove);
-    serveEvents.remove(id);
+    final ServeEvent removed = serveEvents.remove(id);
+    if (removed != null) {
+      deque.removeFirstOccurrence(id);
+      sequencesById.remove(id);
+      index.remove(removed);
+    }
+  }
+
+  @Override
+  public OptionalLong getSequence(UUID id) {
+    final Long sequence = sequencesById.get(id);
+    return sequence != null ? OptionalLong.of(sequence) : OptionalLong.empty();
+  }
+
+  @Override
+  public Stream<ServeEvent> getAllOlderThan(long sequence) {
+    // Concurrent adds can reach the deque slightly out of sequence order, so filter rather than
+    // stopping at the first older event
+    return deque.stream()
+        .filter(
+            id -> {
+              final Long eventSequence = sequencesById.get(id);
+              return eventSequence != null && eventSequence < sequence;
+            })
+        .map(serveEvents::get)
+        .filter(Objects::nonNull);
+  }
+
+  @Override
+  public int size() {
+    return serveEvents.size();
+  }
+
+  @Override
+  public Stream<ServeEvent> findCandidatesFor(RequestPattern requestPattern) {
+    return index
+        .findCandidateIdsFor(requestPattern)
+        .map(ids -> ids.map(serveEvents::get).filter(Objects::nonNull))
+        .orElseGet(this::getAll);
+  }
+
+  @Override
+  public Stream<ServeEvent> getAllForStub(UUID stubMappingId) {
+    return index
+        .findIdsForStub(stubMappingId)
+        .map(ids -> ids.map(serveEvents::get).filter(Objects::nonNull))
+        .orElseGet(() -> RequestJournalStore.super.getAllForStub(stubMappingId));
   }
 
   @Override
   public void clear() {
     deque.clear();
     serveEvents.clear();
+    sequencesById.clear();
+    index.clear();
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,10 +15,17 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.stubbing.SortedConcurrentMappingSet;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubMappingRequestIndex;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
@@ -26,20 +33,38 @@ import org.wiremock.annotations.Beta;
 public class InMemoryStubMappingStore implements StubMappingStore {
 
   private final SortedConcurrentMappingSet mappings = new SortedConcurrentMappingSet();
+  private final StubMappingRequestIndex requestIndex = new StubMappingRequestIndex();
 
   @Override
   public Optional<StubMapping> get(UUID id) {
-    return mappings.stream().filter(stubMapping -> stubMapping.getId().equals(id)).findFirst();
+    return mappings.get(id);
+  }
+
+  @Override
+  public Stream<StubMapping> findAllMatchingRequest(
+      Request request,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Consumer<SubEvent> subEventConsumer) {
+    return requestIndex
+        .findCandidatesFor(request)
+        .map(
+            stubMapping ->
+                Pair.pair(stubMapping, stubMapping.getRequest().match(request, customMatchers)))
+        .peek(stubAndMatchResult -> stubAndMatchResult.b.getSubEvents().forEach(subEventConsumer))
+        .filter(stubAndMatchResult -> stubAndMatchResult.b.isExactMatch())
+        .map(stubAndMatchResult -> stubAndMatchResult.a);
   }
 
   @Override
   public void remove(UUID stubMappingId) {
+    get(stubMappingId).ifPresent(requestIndex::remove);
     mappings.remove(stubMappingId);
   }
 
   @Override
   public void clear() {
     mappings.clear();
+    requestIndex.clear();
   }
 
   @Override
@@ -50,10 +75,14 @@ public class InMemoryStubMappingStore implements StubMappingStore {
   @Override
   public void add(StubMapping stubMapping) {
     mappings.add(stubMapping);
+    requestIndex.add(stubMapping);
   }
 
   @Override
   public void replace(StubMapping existing, StubMapping updated) {
-    mappings.replace(existing, updated);
+    if (mappings.replace(existing, updated)) {
+      requestIndex.remove(existing);
+      requestIndex.add(updated);
+    }
   }
 }
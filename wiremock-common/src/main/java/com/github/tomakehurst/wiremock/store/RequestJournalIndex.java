@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import com.github.tomakehurst.wiremock.common.Urls;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Secondary indexes over the serve events held by a request journal store, keyed by request
+ * method, request URL path and the ID of the stub mapping that served the request. Each index
+ * bucket holds serve event IDs newest first, mirroring the order of the journal itself, so that
+ * verification queries only need to evaluate the events that could possibly match.
+ *
+ * <p>Keeping the indexes costs a few concurrent updates per journalled request, so they're only
+ * kept when enabled. When they're not, every lookup tells the store to scan all of its events.
+ */
+class RequestJournalIndex {
+
+  private static final RequestJournalIndex NONE = new NoIndex();
+
+  static RequestJournalIndex create(boolean enabled) {
+    return enabled ? new RequestJournalIndex() : NONE;
+  }
+
+  private final Map<RequestMethod, Deque<UUID>> byMethod = new ConcurrentHashMap<>();
+  private final Map<String, Deque<UUID>> byPath = new ConcurrentHashMap<>();
+  private final Map<UUID, Deque<UUID>> byStubId = new ConcurrentHashMap<>();
+
+  void add(ServeEvent event) {
+    final UUID id = event.getId();
+    addTo(byMethod, methodOf(event), id);
+    addTo(byPath, pathOf(event), id);
+    addTo(byStubId, stubIdOf(event), id);
+  }
+
+  void remove(ServeEvent event) {
+    removeFrom(event, Deque::removeFirstOccurrence);
+  }
+
+  /**
+   * Removes an event known to be the oldest in the journal, which will be at the tail of each of
+   * its buckets.
+   */
+  void removeOldest(ServeEvent event) {
+    removeFrom(event, Deque::removeLastOccurrence);
+  }
+
+  void replace(ServeEvent previous, ServeEvent event) {
+    final UUID previousStubId = stubIdOf(previous);
+    final UUID stubId = stubIdOf(event);
+    if (!Objects.equals(previousStubId, stubId)) {
+      removeFrom(byStubId, previousStubId, previous.getId(), Deque::removeFirstOccurrence);
+      addTo(byStubId, stubId, event.getId());
+    }
+  }
+
+  void clear() {
+    byMethod.clear();
+    byPath.clear();
+    byStubId.clear();
+  }
+
+  /**
+   * Returns the IDs of the events that could match the given pattern, newest first, or empty if
+   * the pattern can't be narrowed down by any of the indexes and every event must be considered.
+   */
+  Optional<Stream<UUID>> findCandidateIdsFor(RequestPattern requestPattern) {
+    if (requestPattern.hasInlineCustomMatcher()) {
+      return Optional.empty();
+    }
+
+    final String path = literalPathOf(requestPattern.getUrlMatcher());
+    if (path != null) {
+      return Optional.of(idsIn(byPath, path));
+    }
+
+    final RequestMethod method = requestPattern.getMethod();
+    if (method != null
+        && !method.equals(RequestMethod.ANY)
+        && !method.equals(RequestMethod.GET_OR_HEAD)) {
+      return Optional.of(idsIn(byMethod, method));
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the IDs of the events served by the given stub mapping, newest first, or empty if
+   * there's no index and every event must be considered.
+   */
+  Optional<Stream<UUID>> findIdsForStub(UUID stubMappingId) {
+    return Optional.of(idsIn(byStubId, stubMappingId));
+  }
+
+  private void removeFrom(ServeEvent event, BiConsumer<Deque<UUID>, UUID> removal) {
+    final UUID id = event.getId();
+    removeFrom(byMethod, methodOf(event), id, removal);
+    removeFrom(byPath, pathOf(event), id, removal);
+    removeFrom(byStubId, stubIdOf(event), id, removal);
+  }
+
+  private static <K> void addTo(Map<K, Deque<UUID>> index, K key, UUID id) {
+    if (key == null) {
+      return;
+    }
+
+    index.compute(
+        key,
+        (k, bucket) -> {
+          final Deque<UUID> result = bucket != null ? bucket : new ConcurrentLinkedDeque<>();
+          result.addFirst(id);
+          return result;
+        });
+  }
+
+  private static <K> void removeFrom(
+      Map<K, Deque<UUID>> index, K key, UUID id, BiConsumer<Deque<UUID>, UUID> removal) {
+    if (key == null) {
+      return;
+    }
+
+    index.computeIfPresent(
+        key,
+        (k, bucket) -> {
+          removal.accept(bucket, id);
+          return bucket.isEmpty() ? null : bucket;
+        });
+  }
+
+  private static <K> Stream<UUID> idsIn(Map<K, Deque<UUID>> index, K key) {
+    final Deque<UUID> bucket = key != null ? index.get(key) : null;
+    return bucket != null ? bucket.stream() : Stream.empty();
+  }
+
+  private static RequestMethod methodOf(ServeEvent event) {
+    return event.getRequest().getMethod();
+  }
+
+  private static String pathOf(ServeEvent event) {
+    final String url = event.getRequest().getUrl();
+    return url != null ? Urls.getPath(url) : null;
+  }
+
+  /** Returns the ID of the stub mapping that served the event, or null if it wasn't matched. */
+  static UUID stubIdOf(ServeEvent event) {
+    return event.getStubMapping() != null
+            && event.getResponseDefinition() != null
+            && event.getWasMatched()
+        ? event.getStubMapping().getId()
+        : null;
+  }
+
+  private static String literalPathOf(UrlPattern urlPattern) {
+    if (urlPattern == null || !isCaseSensitiveEquality(urlPattern.getPattern())) {
+      return null;
+    }
+
+    if (urlPattern.getClass().equals(UrlPathPattern.class)) {
+      return urlPattern.getExpected();
+    }
+
+    if (urlPattern.getClass().equals(UrlPattern.class)) {
+      return Urls.getPath(urlPattern.getExpected());
+    }
+
+    return null;
+  }
+
+  private static boolean isCaseSensitiveEquality(StringValuePattern pattern) {
+    return pattern != null
+        && pattern.getClass().equals(EqualToPattern.class)
+        && pattern.getValue() != null
+        && !Boolean.TRUE.equals(((EqualToPattern) pattern).getCaseInsensitive());
+  }
+
+  private static class NoIndex extends RequestJournalIndex {
+
+    @Override
+    void add(ServeEvent event) {}
+
+    @Override
+    void remove(ServeEvent event) {}
+
+    @Override
+    void removeOldest(ServeEvent event) {}
+
+    @Override
+    void replace(ServeEvent previous, ServeEvent event) {}
+
+    @Override
+    void clear() {}
+
+    @Override
+    Optional<Stream<UUID>> findCandidateIdsFor(RequestPattern requestPattern) {
+      return Optional.empty();
+    }
+
+    @Override
+    Optional<Stream<UUID>> findIdsForStub(UUID stubMappingId) {
+      return Optional.empty();
+    }
+  }
+}
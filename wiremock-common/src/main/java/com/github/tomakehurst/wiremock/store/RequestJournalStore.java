@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,9 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.OptionalLong;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
@@ -28,4 +30,48 @@ public interface RequestJournalStore extends Store<UUID, ServeEvent> {
   void add(ServeEvent event);
 
   void removeLast();
+
+  default int size() {
+    return (int) getAllKeys().count();
+  }
+
+  /**
+   * Returns a superset of the events matching the given pattern, newest first. Stores that index
+   * their events can use this to avoid a full scan when verifying.
+   */
+  default Stream<ServeEvent> findCandidatesFor(RequestPattern requestPattern) {
+    return getAll();
+  }
+
+  /**
+   * Returns the events older than the one with the given ID, newest first, or nothing if there's no
+   * event with that ID. Stores that know each event's position can use this to start part way
+   * through rather than scanning from the newest.
+   */
+  default Stream<ServeEvent> getAllAfter(UUID id) {
+    return getAll().dropWhile(event -> !id.equals(event.getId())).skip(1);
+  }
+
+  /**
+   * Returns the sequence number the event with the given ID was added under, or nothing if there's
+   * no event with that ID or the store doesn't number its events. Sequence numbers increase with
+   * each event added, so they order events even when they were logged in the same millisecond.
+   */
+  default OptionalLong getSequence(UUID id) {
+    return OptionalLong.empty();
+  }
+
+  /**
+   * Returns the events added before the one with the given sequence number, newest first, whether
+   * or not that event is still in the store. Stores that don't number their events return all of
+   * them.
+   */
+  default Stream<ServeEvent> getAllOlderThan(long sequence) {
+    return getAll();
+  }
+
+  /** Returns the events served by the stub mapping with the given ID, newest first. */
+  default Stream<ServeEvent> getAllForStub(UUID stubMappingId) {
+    return getAll().filter(event -> stubMappingId.equals(RequestJournalIndex.stubIdOf(event)));
+  }
 }
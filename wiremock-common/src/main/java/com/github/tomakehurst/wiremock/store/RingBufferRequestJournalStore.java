@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.wiremock.annotations.Beta;
+
+/**
+ * A fixed capacity request journal store. Events are written into a ring of slots indexed by a
+ * monotonically increasing sequence number, so adding an event overwrites (and thereby evicts) the
+ * oldest one in constant time once the ring is full. Lookups by ID go via a secondary index from
+ * event ID to sequence number, and verification queries can optionally be narrowed via a {@link
+ * RequestJournalIndex}.
+ *
+ * <p>Slots are swapped without locking. Replacing or evicting the event in a slot also updates the
+ * request index, and that's done under one of a fixed number of striped locks, so that a
+ * replacement and an eviction of the same slot can't leave the index out of step with the slot.
+ */
+@Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
+public class RingBufferRequestJournalStore implements RequestJournalStore {
+
+  private static final int MAX_SLOT_LOCKS = 64;
+
+  private final int capacity;
+  private final AtomicReferenceArray<Slot> slots;
+  private final Map<UUID, Long> sequencesById = new ConcurrentHashMap<>();
+  private final AtomicLong nextSequence = new AtomicLong();
+  private final AtomicLong oldestSequence = new AtomicLong();
+  private final AtomicInteger size = new AtomicInteger();
+  private final RequestJournalIndex requestIndex;
+  private final Object[] slotLocks;
+
+  public RingBufferRequestJournalStore(int capacity) {
+    this(capacity, false);
+  }
+
+  /**
+   * @param indexed whether to index events by method, URL path and stub, so that verification and
+   *     per-stub queries don't need to scan every event, at the cost of updating the indexes for
+   *     each one
+   */
+  public RingBufferRequestJournalStore(int capacity, boolean indexed) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Ring buffer capacity must be greater than zero");
+    }
+
+    this.capacity = capacity;
+    this.requestIndex = RequestJournalIndex.create(indexed);
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.slotLocks = new Object[Math.min(capacity, MAX_SLOT_LOCKS)];
+    for (int i = 0; i < slotLocks.length; i++) {
+      slotLocks[i] = new Object();
+    }
+  }
+
+  @Override
+  public void add(ServeEvent event) {
+    final long sequence = nextSequence.getAndIncrement();
+    final int index = indexOf(sequence);
+    final Slot slot = new Slot(sequence, event);
+
+    sequencesById.put(event.getId(), sequence);
+    requestIndex.add(event);
+
+    while (true) {
+      final Slot current = slots.get(index);
+      if (current != null && current.sequence > sequence) {
+        // Lapped by a later writer, so this event has already been evicted
+        sequencesById.remove(event.getId(), sequence);
+        requestIndex.remove(event);
+        return;
+      }
+
+      if (slots.compareAndSet(index, current, slot)) {
+        if (current != null) {
+          evicted(current);
+        }
+        size.incrementAndGet();
+        return;
+      }
+    }
+  }
+
+  @Override
+  public Stream<ServeEvent> getAll() {
+    return getAllFrom(nextSequence.get() - 1);
+  }
+
+  @Override
+  public Stream<ServeEvent> getAllAfter(UUID id) {
+    final Slot slot = slotFor(id);
+    return slot != null ? getAllFrom(slot.sequence - 1) : Stream.empty();
+  }
+
+  @Override
+  public OptionalLong getSequence(UUID id) {
+    final Slot slot = slotFor(id);
+    return slot != null ? OptionalLong.of(slot.sequence) : OptionalLong.empty();
+  }
+
+  @Override
+  public Stream<ServeEvent> getAllOlderThan(long sequence) {
+    return getAllFrom(Math.min(sequence, nextSequence.get()) - 1);
+  }
+
+  @Override
+  public void removeLast() {
+    long sequence = Math.max(oldestSequence.get(), nextSequence.get() - capacity);
+    while (sequence < nextSequence.get()) {
+      final Slot slot = liveSlotAt(sequence);
+      if (slot != null && slots.compareAndSet(indexOf(sequence), slot, null)) {
+        evicted(slot);
+        oldestSequence.accumulateAndGet(sequence + 1, Math::max);
+        return;
+      }
+
+      sequence++;
+    }
+  }
+
+  @Override
+  public Stream<UUID> getAllKeys() {
+    return getAll().map(ServeEvent::getId);
+  }
+
+  @Override
+  public Optional<ServeEvent> get(UUID id) {
+    final Slot slot = slotFor(id);
+    return slot != null ? Optional.of(slot.event) : Optional.empty();
+  }
+
+  @Override
+  public void put(UUID id, ServeEvent event) {
+    Slot current = slotFor(id);
+    while (current != null) {
+      synchronized (lockFor(current.sequence)) {
+        if (slots.compareAndSet(indexOf(current.sequence), current, current.withEvent(event))) {
+          requestIndex.replace(current.event, event);
+          return;
+        }
+      }
+      current = slotFor(id);
+    }
+  }
+
+  @Override
+  public void remove(UUID id) {
+    final Slot slot = slotFor(id);
+    if (slot != null && slots.compareAndSet(indexOf(slot.sequence), slot, null)) {
+      evicted(slot);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size.get();
+  }
+
+  @Override
+  public Stream<ServeEvent> findCandidatesFor(RequestPattern requestPattern) {
+    return requestIndex
+        .findCandidateIdsFor(requestPattern)
+        .map(ids -> ids.map(this::slotFor).filter(Objects::nonNull).map(slot -> slot.event))
+        .orElseGet(this::getAll);
+  }
+
+  @Override
+  public Stream<ServeEvent> getAllForStub(UUID stubMappingId) {
+    return requestIndex
+        .findIdsForStub(stubMappingId)
+        .map(ids -> ids.map(this::slotFor).filter(Objects::nonNull).map(slot -> slot.event))
+        .orElseGet(() -> RequestJournalStore.super.getAllForStub(stubMappingId));
+  }
+
+  @Override
+  public void clear() {
+    oldestSequence.set(nextSequence.get());
+    int cleared = 0;
+    for (int i = 0; i < capacity; i++) {
+      final Slot slot = slots.getAndSet(i, null);
+      if (slot != null) {
+        sequencesById.remove(slot.event.getId(), slot.sequence);
+        cleared++;
+      }
+    }
+
+    requestIndex.clear();
+    size.addAndGet(-cleared);
+  }
+
+  private Stream<ServeEvent> getAllFrom(long newest) {
+    final long oldest = Math.max(oldestSequence.get(), nextSequence.get() - capacity);
+    return LongStream.iterate(newest, sequence -> sequence >= oldest, sequence -> sequence - 1)
+        .mapToObj(this::liveSlotAt)
+        .filter(Objects::nonNull)
+        .map(slot -> slot.event);
+  }
+
+  private Slot slotFor(UUID id) {
+    final Long sequence = id != null ? sequencesById.get(id) : null;
+    return sequence != null ? liveSlotAt(sequence) : null;
+  }
+
+  private Slot liveSlotAt(long sequence) {
+    final Slot slot = slots.get(indexOf(sequence));
+    return slot != null && slot.sequence == sequence ? slot : null;
+  }
+
+  private void evicted(Slot slot) {
+    sequencesById.remove(slot.event.getId(), slot.sequence);
+    // Waits for any replacement of this slot's event to finish updating the index, so that it's
+    // the index entries for the event that was evicted that get removed
+    synchronized (lockFor(slot.sequence)) {
+      requestIndex.removeOldest(slot.event);
+    }
+    size.decrementAndGet();
+  }
+
+  private Object lockFor(long sequence) {
+    return slotLocks[indexOf(sequence) % slotLocks.length];
+  }
+
+  private int indexOf(long sequence) {
+    return (int) (sequence % capacity);
+  }
+
+  private static class Slot {
+    final long sequence;
+    final ServeEvent event;
+
+    Slot(long sequence, ServeEvent event) {
+      this.sequence = sequence;
+      this.event = event;
+    }
+
+    Slot withEvent(ServeEvent event) {
+      return new Slot(sequence, event);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import com.github.tomakehurst.wiremock.common.StreamSources.ByteBufferInputStreamSource;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the contents of recently served files in memory, up to a total size. Files of at least
+ * {@link #OFF_HEAP_THRESHOLD} bytes are held in direct buffers so that large payloads don't churn
+ * the heap. Each hit checks the file's modification time and length, so changes on disk are picked
+ * up without re-reading unchanged files.
+ */
+class FileContentCache {
+
+  static final int OFF_HEAP_THRESHOLD = 1024 * 1024;
+
+  private final long maxBytes;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+  private long totalBytes;
+
+  FileContentCache(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * @param resolveFile finds the file for the key, or returns null if it shouldn't be cached. Only
+   *     called on a miss, so that checks on the key, such as it being under the root directory,
+   *     aren't repeated on every hit.
+   */
+  Optional<ByteBufferInputStreamSource> get(String key, Supplier<File> resolveFile) {
+    final Entry entry = entries.get(key);
+    if (entry != null && entry.isCurrent()) {
+      entry.lastAccessed = System.nanoTime();
+      return Optional.of(entry.source);
+    }
+
+    return load(key, resolveFile);
+  }
+
+  synchronized void invalidate(String key) {
+    final Entry removed = entries.remove(key);
+    if (removed != null) {
+      totalBytes -= removed.length;
+    }
+  }
+
+  synchronized void clear() {
+    entries.clear();
+    totalBytes = 0;
+  }
+
+  // Files are read outside the lock, so that a slow read only holds up requests for the same key.
+  // Concurrent misses on a key wait for the first one's read rather than reading it again.
+  private Optional<ByteBufferInputStreamSource> load(String key, Supplier<File> resolveFile) {
+    final CompletableFuture<Entry> loaded = new CompletableFuture<>();
+    final CompletableFuture<Entry> alreadyLoading = loading.putIfAbsent(key, loaded);
+    if (alreadyLoading != null) {
+      return Optional.ofNullable(alreadyLoading.join()).map(entry -> entry.source);
+    }
+
+    Entry entry = null;
+    try {
+      final Entry existing = entries.get(key);
+      if (existing != null && existing.isCurrent()) {
+        entry = existing;
+      } else {
+        entry = read(resolveFile.get());
+        store(key, entry);
+      }
+    } finally {
+      loading.remove(key, loaded);
+      loaded.complete(entry);
+    }
+
+    return Optional.ofNullable(entry).map(e -> e.source);
+  }
+
+  private Entry read(File file) {
+    if (file == null) {
+      return null;
+    }
+
+    final long lastModified = file.lastModified();
+    final long length = file.length();
+    if (!file.isFile() || length > maxBytes || length > Integer.MAX_VALUE) {
+      return null;
+    }
+
+    try {
+      return new Entry(
+          new ByteBufferInputStreamSource(read(file, (int) length)), file, lastModified, length);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /** Replaces whatever is cached for the key, or just removes it if the entry is null. */
+  private synchronized void store(String key, Entry entry) {
+    invalidate(key);
+    if (entry != null) {
+      evictUntilThereIsRoomFor(entry.length);
+      entries.put(key, entry);
+      totalBytes += entry.length;
+    }
+  }
+
+  private static ByteBuffer read(File file, int length) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      final ByteBuffer buffer =
+          length >= OFF_HEAP_THRESHOLD
+              ? ByteBuffer.allocateDirect(length)
+              : ByteBuffer.allocate(length);
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // keep reading until full or the file turns out to be shorter than expected
+      }
+
+      buffer.flip();
+      return buffer;
+    }
+  }
+
+  // Only called on a miss, so a scan for the least recently used entry is cheap enough
+  private void evictUntilThereIsRoomFor(long length) {
+    while (totalBytes + length > maxBytes && !entries.isEmpty()) {
+      entries.entrySet().stream()
+          .min(Comparator.comparingLong(e -> e.getValue().lastAccessed))
+          .ifPresent(e -> invalidate(e.getKey()));
+    }
+  }
+
+  private static class Entry {
+    final ByteBufferInputStreamSource source;
+    final File file;
+    final long lastModified;
+    final long length;
+    volatile long lastAccessed = System.nanoTime();
+
+    Entry(ByteBufferInputStreamSource source, File file, long lastModified, long length) {
+      this.source = source;
+      this.file = file;
+      this.lastModified = lastModified;
+      this.length = length;
+    }
+
+    boolean isCurrent() {
+      return file.lastModified() == lastModified && file.length() == length;
+    }
+  }
+}
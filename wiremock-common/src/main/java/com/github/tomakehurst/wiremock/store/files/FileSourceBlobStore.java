@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,13 +31,26 @@ import org.wiremock.annotations.Beta;
 public class FileSourceBlobStore implements BlobStore, PathBased {
 
   private final FileSource fileSource;
+  private final FileContentCache contentCache;
 
   FileSourceBlobStore(String root) {
-    this.fileSource = new SingleRootFileSource(root);
+    this(new SingleRootFileSource(root));
   }
 
   public FileSourceBlobStore(FileSource fileSource) {
+    this(fileSource, 0);
+  }
+
+  /**
+   * @param contentCacheMaxBytes if greater than zero, the contents of files served via {@link
+   *     #getStreamSource(String)} are kept in memory up to this total size
+   */
+  public FileSourceBlobStore(FileSource fileSource, long contentCacheMaxBytes) {
     this.fileSource = fileSource;
+    this.contentCache =
+        contentCacheMaxBytes > 0 && fileSource instanceof AbstractFileSource
+            ? new FileContentCache(contentCacheMaxBytes)
+            : null;
   }
 
   @Override
@@ -57,9 +70,30 @@ public class FileSourceBlobStore implements BlobStore, PathBased {
 
   @Override
   public InputStreamSource getStreamSource(String key) {
+    if (contentCache != null) {
+      final Optional<? extends InputStreamSource> cached =
+          contentCache.get(key, () -> resolveFile(key));
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+    }
+
     return StreamSources.forBlobStoreItem(this, key);
   }
 
+  private File resolveFile(String key) {
+    try {
+      // Checks that the key doesn't point outside the root
+      fileSource.getBinaryFileNamed(key);
+    } catch (Exception e) {
+      // Left for the uncached path to report
+      return null;
+    }
+
+    final File file = new File(key);
+    return file.isAbsolute() ? file : new File(fileSource.getPath(), key);
+  }
+
   @Override
   public Stream<String> getAllKeys() {
     final String rootPath = new File(fileSource.getUri().getSchemeSpecificPart()).getPath();
@@ -86,16 +120,27 @@ public class FileSourceBlobStore implements BlobStore, PathBased {
   @Override
   public void put(String key, byte[] content) {
     fileSource.writeBinaryFile(key, content);
+    invalidate(key);
   }
 
   @Override
   public void remove(String key) {
     fileSource.deleteFile(key);
+    invalidate(key);
   }
 
   @Override
   public void clear() {
     fileSource.listFilesRecursively().forEach(file -> fileSource.deleteFile(file.getPath()));
+    if (contentCache != null) {
+      contentCache.clear();
+    }
+  }
+
+  private void invalidate(String key) {
+    if (contentCache != null) {
+      contentCache.invalidate(key);
+    }
   }
 
   public FileSource getFileSource() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2025 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,12 +19,15 @@ import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonN
 import static java.util.stream.Collectors.toList;
 
 import com.github.tomakehurst.wiremock.admin.NotFoundException;
+import com.github.tomakehurst.wiremock.common.KeyLocks;
 import com.github.tomakehurst.wiremock.store.ScenariosStore;
 import java.util.List;
+import java.util.function.Function;
 
 public abstract class AbstractScenarios implements Scenarios {
 
   private final ScenariosStore store;
+  private final KeyLocks scenarioLocks = new KeyLocks();
 
   public AbstractScenarios(ScenariosStore store) {
     this.store = store;
@@ -43,12 +46,7 @@ public abstract class AbstractScenarios implements Scenarios {
   @Override
   public void onStubMappingAdded(StubMapping mapping) {
     if (mapping.isInScenario()) {
-      String scenarioName = mapping.getScenarioName();
-      Scenario scenario =
-          getFirstNonNull(
-                  store.get(scenarioName).orElse(null), Scenario.inStartedState(scenarioName))
-              .withStubMapping(mapping);
-      store.put(scenarioName, scenario);
+      addToScenario(mapping);
     }
   }
 
@@ -56,64 +54,95 @@ public abstract class AbstractScenarios implements Scenarios {
   public void onStubMappingUpdated(StubMapping oldMapping, StubMapping newMapping) {
     if (oldMapping.isInScenario()
         && !oldMapping.getScenarioName().equals(newMapping.getScenarioName())) {
-      Scenario scenarioForOldMapping =
-          store
-              .get(oldMapping.getScenarioName())
-              .map(scenario -> scenario.withoutStubMapping(oldMapping))
-              .orElseThrow(IllegalStateException::new);
-
-      if (scenarioForOldMapping.getMappings().isEmpty()) {
-        store.remove(scenarioForOldMapping.getId());
-      } else {
-        store.put(oldMapping.getScenarioName(), scenarioForOldMapping);
-      }
+      removeFromScenario(oldMapping);
     }
 
     if (newMapping.isInScenario()) {
-      String scenarioName = newMapping.getScenarioName();
-      Scenario scenario =
-          getFirstNonNull(
-                  store.get(scenarioName).orElse(null), Scenario.inStartedState(scenarioName))
-              .withStubMapping(newMapping);
-      store.put(scenarioName, scenario);
+      addToScenario(newMapping);
     }
   }
 
   @Override
   public void onStubMappingRemoved(StubMapping mapping) {
     if (mapping.isInScenario()) {
-      final String scenarioName = mapping.getScenarioName();
-      Scenario scenario =
-          store
-              .get(scenarioName)
-              .orElseThrow(IllegalStateException::new)
-              .withoutStubMapping(mapping);
-
-      if (scenario.getMappings().isEmpty()) {
-        store.remove(scenarioName);
-      } else {
-        store.put(scenarioName, scenario);
-      }
+      removeFromScenario(mapping);
     }
   }
 
+  private void addToScenario(StubMapping mapping) {
+    final String scenarioName = mapping.getScenarioName();
+    withScenarioLock(
+        scenarioName,
+        () -> {
+          Scenario scenario =
+              getFirstNonNull(
+                      store.get(scenarioName).orElse(null), Scenario.inStartedState(scenarioName))
+                  .withStubMapping(mapping);
+          store.put(scenarioName, scenario);
+        });
+  }
+
+  private void removeFromScenario(StubMapping mapping) {
+    final String scenarioName = mapping.getScenarioName();
+    withScenarioLock(
+        scenarioName,
+        () -> {
+          Scenario scenario =
+              store
+                  .get(scenarioName)
+                  .orElseThrow(IllegalStateException::new)
+                  .withoutStubMapping(mapping);
+
+          if (scenario.getMappings().isEmpty()) {
+            store.remove(scenarioName);
+          } else {
+            store.put(scenarioName, scenario);
+          }
+        });
+  }
+
   @Override
   public void onStubServed(StubMapping mapping) {
-    if (mapping.isInScenario()) {
+    if (mapping.isInScenario() && mapping.modifiesScenarioState()) {
       final String scenarioName = mapping.getScenarioName();
-      Scenario scenario = store.get(scenarioName).orElseThrow(IllegalStateException::new);
-      if (mapping.modifiesScenarioState()
-          && (mapping.getRequiredScenarioState() == null
-              || scenario.getState().equals(mapping.getRequiredScenarioState()))) {
-        Scenario newScenario = scenario.setState(mapping.getNewScenarioState());
-        store.put(scenarioName, newScenario);
-      }
+      withScenarioLock(
+          scenarioName,
+          () -> {
+            Scenario scenario = store.get(scenarioName).orElseThrow(IllegalStateException::new);
+            if (mapping.getRequiredScenarioState() == null
+                || scenario.getState().equals(mapping.getRequiredScenarioState())) {
+              store.put(scenarioName, scenario.setState(mapping.getNewScenarioState()));
+            }
+          });
     }
   }
 
+  @Override
+  public boolean compareAndTransition(StubMapping mapping) {
+    final String scenarioName = mapping.getScenarioName();
+    return scenarioLocks.withLock(
+        scenarioName,
+        () -> {
+          final Scenario scenario = store.get(scenarioName).orElse(null);
+          if (scenario == null || !mapping.getRequiredScenarioState().equals(scenario.getState())) {
+            return false;
+          }
+
+          if (mapping.modifiesScenarioState()) {
+            store.put(scenarioName, scenario.setState(mapping.getNewScenarioState()));
+          }
+          return true;
+        });
+  }
+
   @Override
   public void reset() {
-    store.getAll().map(Scenario::reset).forEach(scenario -> store.put(scenario.getId(), scenario));
+    store.getAll().map(Scenario::getId).forEach(this::resetSingleIfPresent);
+  }
+
+  private void resetSingleIfPresent(String name) {
+    withScenarioLock(
+        name, () -> store.get(name).ifPresent(scenario -> store.put(name, scenario.reset())));
   }
 
   @Override
@@ -126,14 +155,26 @@ public abstract class AbstractScenarios implements Scenarios {
     setSingleScenarioState(name, scenario -> scenario.setState(state));
   }
 
-  private void setSingleScenarioState(
-      String name, java.util.function.Function<Scenario, Scenario> fn) {
-    Scenario scenario =
-        store
-            .get(name)
-            .orElseThrow(() -> new NotFoundException("Scenario " + name + " does not exist"));
+  private void setSingleScenarioState(String name, Function<Scenario, Scenario> fn) {
+    withScenarioLock(
+        name,
+        () -> {
+          Scenario scenario =
+              store
+                  .get(name)
+                  .orElseThrow(() -> new NotFoundException("Scenario " + name + " does not exist"));
+
+          store.put(name, fn.apply(scenario));
+        });
+  }
 
-    store.put(name, fn.apply(scenario));
+  private void withScenarioLock(String name, Runnable action) {
+    scenarioLocks.withLock(
+        name,
+        () -> {
+          action.run();
+          return null;
+        });
   }
 
   @Override
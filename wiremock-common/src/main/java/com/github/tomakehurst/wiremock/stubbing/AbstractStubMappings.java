@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,8 @@ import com.github.tomakehurst.wiremock.store.StubMappingStore;
 import com.github.tomakehurst.wiremock.store.files.BlobStoreFileSource;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 public abstract class AbstractStubMappings implements StubMappings {
 
@@ -51,6 +53,10 @@ public abstract class AbstractStubMappings implements StubMappings {
   protected final List<StubLifecycleListener> stubLifecycleListeners;
   protected final Map<String, ServeEventListener> serveEventListeners;
 
+  private final List<ResponseDefinitionTransformer> v1TransformerList;
+  private final List<ResponseDefinitionTransformerV2> v2TransformerList;
+  private final Map<UUID, TransformerChain> transformerChains = new ConcurrentHashMap<>();
+
   public AbstractStubMappings(
       StubMappingStore store,
       Scenarios scenarios,
@@ -68,6 +74,8 @@ public abstract class AbstractStubMappings implements StubMappings {
     this.filesFileSource = new BlobStoreFileSource(filesBlobStore);
     this.stubLifecycleListeners = stubLifecycleListeners;
     this.serveEventListeners = serveEventListeners;
+    this.v1TransformerList = List.copyOf(transformers.values());
+    this.v2TransformerList = List.copyOf(v2transformers.values());
   }
 
   @Override
@@ -83,13 +91,16 @@ public abstract class AbstractStubMappings implements StubMappings {
             .filter(
                 stubMapping ->
                     stubMapping.isIndependentOfScenarioState()
-                        || scenarios.mappingMatchesScenarioState(stubMapping))
+                        || scenarios.compareAndTransition(stubMapping))
             .findFirst()
             .orElse(StubMapping.NOT_CONFIGURED);
 
     subEvents.forEach(initialServeEvent::appendSubEvent);
 
-    scenarios.onStubServed(matchingStub);
+    // Stubs that depend on scenario state were transitioned atomically as they were matched
+    if (matchingStub.isIndependentOfScenarioState()) {
+      scenarios.onStubServed(matchingStub);
+    }
 
     final ResponseDefinition initialResponseDefinition = matchingStub.getResponse();
     ServeEvent serveEvent =
@@ -100,61 +111,85 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     triggerListeners(serveEventListeners, AFTER_MATCH, serveEvent);
 
+    final TransformerChain transformerChain = transformerChainFor(matchingStub);
+
     ResponseDefinition responseDefinition =
-        applyV1Transformations(
-            request, matchingStub.getResponse(), List.copyOf(transformers.values()));
+        applyV1Transformations(request, matchingStub.getResponse(), transformerChain);
 
-    serveEvent = serveEvent.withResponseDefinition(responseDefinition);
+    if (responseDefinition != serveEvent.getResponseDefinition()) {
+      serveEvent = serveEvent.withResponseDefinition(responseDefinition);
+    }
 
     final Pair<ServeEvent, ResponseDefinition> transformed =
-        applyV2Transformations(serveEvent, List.copyOf(v2transformers.values()));
+        applyV2Transformations(serveEvent, transformerChain);
     serveEvent = transformed.a;
     responseDefinition = transformed.b;
 
     return serveEvent.withResponseDefinition(copyOf(responseDefinition));
   }
 
-  private ResponseDefinition applyV1Transformations(
-      Request request,
-      ResponseDefinition responseDefinition,
-      List<ResponseDefinitionTransformer> transformers) {
-
-    if (transformers.isEmpty()) {
-      return responseDefinition;
+  private TransformerChain transformerChainFor(StubMapping stubMapping) {
+    final TransformerChain chain = transformerChains.get(stubMapping.getId());
+    if (chain != null && chain.appliesTo(stubMapping.getResponse())) {
+      return chain;
     }
 
-    ResponseDefinitionTransformer transformer = transformers.get(0);
-    ResponseDefinition newResponseDef =
-        transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)
-            ? transformer.transform(
+    return resolveTransformerChain(stubMapping);
+  }
+
+  private TransformerChain resolveTransformerChain(StubMapping stubMapping) {
+    final TransformerChain chain =
+        TransformerChain.resolve(stubMapping.getResponse(), v1TransformerList, v2TransformerList);
+    transformerChains.put(stubMapping.getId(), chain);
+    return chain;
+  }
+
+  private ResponseDefinition applyV1Transformations(
+      Request request, ResponseDefinition responseDefinition, TransformerChain chain) {
+    List<ResponseDefinitionTransformer> transformers = chain.v1Transformers;
+    for (int i = 0; i < transformers.size(); i++) {
+      final ResponseDefinitionTransformer transformer = transformers.get(i);
+      if (transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)) {
+        responseDefinition =
+            transformer.transform(
                 request,
                 responseDefinition,
                 filesFileSource,
-                getFirstNonNull(responseDefinition.getTransformerParameters(), Parameters.empty()))
-            : responseDefinition;
+                getFirstNonNull(responseDefinition.getTransformerParameters(), Parameters.empty()));
+
+        if (transformers != v1TransformerList && !chain.appliesTo(responseDefinition)) {
+          // The transformer changed which transformers are named, so consider all the rest
+          transformers = v1TransformerList;
+          i = transformers.indexOf(transformer);
+        }
+      }
+    }
 
-    return applyV1Transformations(
-        request, newResponseDef, transformers.subList(1, transformers.size()));
+    return responseDefinition;
   }
 
   private Pair<ServeEvent, ResponseDefinition> applyV2Transformations(
-      ServeEvent serveEvent, List<ResponseDefinitionTransformerV2> transformers) {
-
-    final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
-
-    if (transformers.isEmpty()) {
-      return pair(serveEvent, responseDefinition);
+      ServeEvent serveEvent, TransformerChain chain) {
+    List<ResponseDefinitionTransformerV2> transformers =
+        chain.appliesTo(serveEvent.getResponseDefinition())
+            ? chain.v2Transformers
+            : v2TransformerList;
+
+    for (int i = 0; i < transformers.size(); i++) {
+      final ResponseDefinitionTransformerV2 transformer = transformers.get(i);
+      final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+      if (transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)) {
+        final ResponseDefinition newResponseDef = transformer.transform(serveEvent);
+        serveEvent = serveEvent.withResponseDefinition(newResponseDef);
+
+        if (transformers != v2TransformerList && !chain.appliesTo(newResponseDef)) {
+          transformers = v2TransformerList;
+          i = transformers.indexOf(transformer);
+        }
+      }
     }
 
-    ResponseDefinitionTransformerV2 transformer = transformers.get(0);
-    ResponseDefinition newResponseDef =
-        transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)
-            ? transformer.transform(serveEvent)
-            : responseDefinition;
-
-    return applyV2Transformations(
-        serveEvent.withResponseDefinition(newResponseDef),
-        transformers.subList(1, transformers.size()));
+    return pair(serveEvent, serveEvent.getResponseDefinition());
   }
 
   @Override
@@ -175,6 +210,7 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     store.add(mapping);
     scenarios.onStubMappingAdded(mapping);
+    resolveTransformerChain(mapping);
 
     for (StubLifecycleListener listener : stubLifecycleListeners) {
       listener.afterStubCreated(mapping);
@@ -189,6 +225,7 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     store.remove(mapping.getId());
     scenarios.onStubMappingRemoved(mapping);
+    transformerChains.remove(mapping.getId());
 
     for (StubLifecycleListener listener : stubLifecycleListeners) {
       listener.afterStubRemoved(mapping);
@@ -215,6 +252,7 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     store.replace(existingMapping, stubMapping);
     scenarios.onStubMappingUpdated(existingMapping, stubMapping);
+    resolveTransformerChain(stubMapping);
 
     for (StubLifecycleListener listener : stubLifecycleListeners) {
       listener.afterStubEdited(existingMapping, stubMapping);
@@ -229,6 +267,7 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     store.clear();
     scenarios.clear();
+    transformerChains.clear();
 
     for (StubLifecycleListener listener : stubLifecycleListeners) {
       listener.afterStubsReset();
@@ -245,6 +284,11 @@ public abstract class AbstractStubMappings implements StubMappings {
     return store.getAll().collect(toList());
   }
 
+  @Override
+  public Stream<StubMapping> streamAll() {
+    return store.getAll();
+  }
+
   @Override
   public Optional<StubMapping> get(final UUID id) {
     return store.get(id);
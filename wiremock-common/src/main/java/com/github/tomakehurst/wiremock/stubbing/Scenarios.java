@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,4 +39,19 @@ public interface Scenarios {
   void clear();
 
   boolean mappingMatchesScenarioState(StubMapping mapping);
+
+  /**
+   * Atomically checks that the mapping's scenario is in the state the mapping requires and, if the
+   * mapping moves the scenario to a new state, applies that transition.
+   *
+   * @return false if the scenario was not in the required state, in which case nothing changes
+   */
+  default boolean compareAndTransition(StubMapping mapping) {
+    if (!mappingMatchesScenarioState(mapping)) {
+      return false;
+    }
+
+    onStubServed(mapping);
+    return true;
+  }
 }
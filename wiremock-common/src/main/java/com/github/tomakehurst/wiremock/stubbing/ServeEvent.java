@@ -123,6 +123,31 @@ public class ServeEvent {
         id, request, stubMapping, responseDefinition, response, false, timing, subEvents);
   }
 
+  public ServeEvent withResponseBody(byte[] body) {
+    return new ServeEvent(
+        id,
+        request,
+        stubMapping,
+        responseDefinition,
+        response != null ? response.withBody(body) : null,
+        false,
+        timing,
+        subEvents);
+  }
+
+  /** A copy whose sub events start out the same as this one's but are appended separately. */
+  public ServeEvent withSeparateSubEvents() {
+    return new ServeEvent(
+        id,
+        request,
+        stubMapping,
+        responseDefinition,
+        response,
+        timing,
+        new ConcurrentLinkedQueue<>(subEvents),
+        stopwatch);
+  }
+
   public ServeEvent withPathParamDecoratedRequest() {
     final LoggedRequest newLoggedRequest =
         LoggedRequest.createFrom(
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,10 @@ package com.github.tomakehurst.wiremock.stubbing;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
@@ -26,13 +29,15 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
 
   private final AtomicLong insertionCount;
   private final ConcurrentSkipListSet<StubMapping> mappingSet;
+  private final Map<UUID, StubMapping> mappingsById;
 
   public SortedConcurrentMappingSet() {
     insertionCount = new AtomicLong();
     mappingSet = new ConcurrentSkipListSet<>(sortedByPriorityThenReverseInsertionOrder());
+    mappingsById = new ConcurrentHashMap<>();
   }
 
-  private Comparator<StubMapping> sortedByPriorityThenReverseInsertionOrder() {
+  static Comparator<StubMapping> sortedByPriorityThenReverseInsertionOrder() {
     return (one, two) -> {
       int priorityComparison = one.comparePriorityWith(two);
       if (priorityComparison != 0) {
@@ -52,19 +57,33 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
     return mappingSet.stream();
   }
 
+  public Optional<StubMapping> get(UUID mappingId) {
+    return mappingId != null ? Optional.ofNullable(mappingsById.get(mappingId)) : Optional.empty();
+  }
+
   public void add(StubMapping mapping) {
     mapping.setInsertionIndex(insertionCount.getAndIncrement());
     mappingSet.add(mapping);
+    index(mapping);
   }
 
   public boolean remove(final UUID mappingId) {
-    return mappingSet.removeIf(mapping -> mappingId != null && mappingId.equals(mapping.getUuid()));
+    if (mappingId == null) {
+      return false;
+    }
+
+    final StubMapping mapping = mappingsById.remove(mappingId);
+    return mapping != null && removeFromSortedSet(mapping);
   }
 
   public boolean replace(StubMapping existingStubMapping, StubMapping newStubMapping) {
 
     if (mappingSet.remove(existingStubMapping)) {
       mappingSet.add(newStubMapping);
+      if (existingStubMapping.getId() != null) {
+        mappingsById.remove(existingStubMapping.getId(), existingStubMapping);
+      }
+      index(newStubMapping);
       return true;
     }
     return false;
@@ -72,6 +91,19 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
 
   public void clear() {
     mappingSet.clear();
+    mappingsById.clear();
+  }
+
+  private void index(StubMapping mapping) {
+    if (mapping.getId() != null) {
+      mappingsById.put(mapping.getId(), mapping);
+    }
+  }
+
+  private boolean removeFromSortedSet(StubMapping mapping) {
+    // The sorted set locates entries by priority and insertion index, so fall back to an identity
+    // scan in case the priority has been changed since the mapping was added.
+    return mappingSet.remove(mapping) || mappingSet.removeIf(candidate -> candidate == mapping);
   }
 
   @Override
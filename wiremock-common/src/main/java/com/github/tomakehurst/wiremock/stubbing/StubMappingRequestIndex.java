@@ -0,0 +1,301 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static com.github.tomakehurst.wiremock.stubbing.SortedConcurrentMappingSet.sortedByPriorityThenReverseInsertionOrder;
+
+import com.github.tomakehurst.wiremock.common.Urls;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathTemplatePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Partitions stub mappings by HTTP method and by the literal part of their URL matcher, so that
+ * only the stubs that could possibly match a given request need to be evaluated against it.
+ *
+ * <p>Stubs whose URL matcher can't be reduced to a literal (regexes, any URL, custom patterns) are
+ * held in a fallback bucket that is consulted for every request. Candidates are always returned in
+ * the same priority-then-reverse-insertion order as {@link SortedConcurrentMappingSet}.
+ */
+public class StubMappingRequestIndex {
+
+  private static final Comparator<StubMapping> ORDER = sortedByPriorityThenReverseInsertionOrder();
+
+  private final Map<RequestMethod, MethodBuckets> methodBuckets = new ConcurrentHashMap<>();
+
+  public void add(StubMapping mapping) {
+    final UrlKey urlKey = UrlKey.of(mapping.getRequest().getUrlMatcher());
+    for (RequestMethod method : indexedMethodsFor(mapping.getRequest().getMethod())) {
+      methodBuckets.computeIfAbsent(method, m -> new MethodBuckets()).add(urlKey, mapping);
+    }
+  }
+
+  public void remove(StubMapping mapping) {
+    final UrlKey urlKey = UrlKey.of(mapping.getRequest().getUrlMatcher());
+    for (RequestMethod method : indexedMethodsFor(mapping.getRequest().getMethod())) {
+      final MethodBuckets buckets = methodBuckets.get(method);
+      if (buckets != null) {
+        buckets.remove(urlKey, mapping);
+      }
+    }
+  }
+
+  public void clear() {
+    methodBuckets.clear();
+  }
+
+  public Stream<StubMapping> findCandidatesFor(Request request) {
+    final List<Set<StubMapping>> candidateBuckets = new ArrayList<>();
+    for (RequestMethod method : lookupMethodsFor(request.getMethod())) {
+      final MethodBuckets buckets = methodBuckets.get(method);
+      if (buckets != null) {
+        buckets.collectCandidates(request.getUrl(), candidateBuckets);
+      }
+    }
+
+    if (candidateBuckets.isEmpty()) {
+      return Stream.empty();
+    }
+
+    if (candidateBuckets.size() == 1) {
+      return candidateBuckets.get(0).stream();
+    }
+
+    final Iterator<StubMapping> merged = new MergingIterator(candidateBuckets);
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  private static List<RequestMethod> indexedMethodsFor(RequestMethod method) {
+    if (method.equals(RequestMethod.GET_OR_HEAD)) {
+      return List.of(RequestMethod.GET, RequestMethod.HEAD, RequestMethod.GET_OR_HEAD);
+    }
+
+    return List.of(method);
+  }
+
+  private static List<RequestMethod> lookupMethodsFor(RequestMethod method) {
+    if (method == null || method.equals(RequestMethod.ANY)) {
+      return List.of(RequestMethod.ANY);
+    }
+
+    return List.of(method, RequestMethod.ANY);
+  }
+
+  private enum UrlKeyType {
+    URL,
+    PATH,
+    PATH_PREFIX,
+    OTHER
+  }
+
+  private static class UrlKey {
+
+    private static final UrlKey OTHER = new UrlKey(UrlKeyType.OTHER, null);
+
+    final UrlKeyType type;
+    final String value;
+
+    private UrlKey(UrlKeyType type, String value) {
+      this.type = type;
+      this.value = value;
+    }
+
+    static UrlKey of(UrlPattern urlPattern) {
+      if (urlPattern.getClass().equals(UrlPattern.class)
+          && isCaseSensitiveEquality(urlPattern.getPattern())) {
+        return new UrlKey(UrlKeyType.URL, urlPattern.getExpected());
+      }
+
+      if (urlPattern.getClass().equals(UrlPathPattern.class)
+          && isCaseSensitiveEquality(urlPattern.getPattern())) {
+        return new UrlKey(UrlKeyType.PATH, urlPattern.getExpected());
+      }
+
+      if (urlPattern.getClass().equals(UrlPathTemplatePattern.class)) {
+        final String prefix = literalDirectoryPrefixOf(urlPattern.getExpected());
+        if (!prefix.isEmpty()) {
+          return new UrlKey(UrlKeyType.PATH_PREFIX, prefix);
+        }
+      }
+
+      return OTHER;
+    }
+
+    private static boolean isCaseSensitiveEquality(StringValuePattern pattern) {
+      return pattern.getClass().equals(EqualToPattern.class)
+          && pattern.getValue() != null
+          && !Boolean.TRUE.equals(((EqualToPattern) pattern).getCaseInsensitive());
+    }
+
+    /**
+     * Returns the part of a path template up to and including the last slash before the first
+     * variable or wildcard, e.g. <code>/things/</code> for <code>/things/{id}/parts</code>.
+     */
+    private static String literalDirectoryPrefixOf(String template) {
+      int literalEnd = template.length();
+      final int firstVariable = template.indexOf('{');
+      if (firstVariable >= 0) {
+        literalEnd = firstVariable;
+      }
+      final int firstWildcard = template.indexOf("**");
+      if (firstWildcard >= 0 && firstWildcard < literalEnd) {
+        literalEnd = firstWildcard;
+      }
+
+      final String literal = template.substring(0, literalEnd);
+      return literal.substring(0, literal.lastIndexOf('/') + 1);
+    }
+  }
+
+  private static class MethodBuckets {
+
+    private final Map<String, Set<StubMapping>> byUrl = new ConcurrentHashMap<>();
+    private final Map<String, Set<StubMapping>> byPath = new ConcurrentHashMap<>();
+    private final Map<String, Set<StubMapping>> byPathPrefix = new ConcurrentHashMap<>();
+    private final Set<StubMapping> other = newBucket();
+
+    void add(UrlKey key, StubMapping mapping) {
+      if (key.type == UrlKeyType.OTHER) {
+        other.add(mapping);
+      } else {
+        bucketsOfType(key.type).computeIfAbsent(key.value, k -> newBucket()).add(mapping);
+      }
+    }
+
+    void remove(UrlKey key, StubMapping mapping) {
+      if (key.type == UrlKeyType.OTHER) {
+        removeFromBucket(other, mapping);
+      } else {
+        final Set<StubMapping> bucket = bucketsOfType(key.type).get(key.value);
+        if (bucket != null) {
+          removeFromBucket(bucket, mapping);
+        }
+      }
+    }
+
+    void collectCandidates(String url, List<Set<StubMapping>> candidateBuckets) {
+      addIfNotEmpty(other, candidateBuckets);
+      if (url == null) {
+        return;
+      }
+
+      addIfNotEmpty(byUrl.get(url), candidateBuckets);
+
+      final String path = Urls.getPath(url);
+      addIfNotEmpty(byPath.get(path), candidateBuckets);
+
+      if (!byPathPrefix.isEmpty()) {
+        for (int slash = path.indexOf('/'); slash >= 0; slash = path.indexOf('/', slash + 1)) {
+          addIfNotEmpty(byPathPrefix.get(path.substring(0, slash + 1)), candidateBuckets);
+        }
+      }
+    }
+
+    private Map<String, Set<StubMapping>> bucketsOfType(UrlKeyType type) {
+      switch (type) {
+        case URL:
+          return byUrl;
+        case PATH:
+          return byPath;
+        default:
+          return byPathPrefix;
+      }
+    }
+
+    private static void addIfNotEmpty(
+        Set<StubMapping> bucket, List<Set<StubMapping>> candidateBuckets) {
+      if (bucket != null && !bucket.isEmpty()) {
+        candidateBuckets.add(bucket);
+      }
+    }
+
+    private static void removeFromBucket(Set<StubMapping> bucket, StubMapping mapping) {
+      // Buckets locate entries by priority and insertion index, so fall back to an identity scan in
+      // case the priority has been changed since the mapping was added.
+      if (!bucket.remove(mapping)) {
+        bucket.removeIf(candidate -> candidate == mapping);
+      }
+    }
+
+    private static Set<StubMapping> newBucket() {
+      return new ConcurrentSkipListSet<>(ORDER);
+    }
+  }
+
+  /** Lazily merges several individually sorted buckets into a single sorted sequence. */
+  private static class MergingIterator implements Iterator<StubMapping> {
+
+    private final PriorityQueue<Head> heads;
+
+    MergingIterator(List<Set<StubMapping>> buckets) {
+      heads = new PriorityQueue<>(buckets.size(), (one, two) -> ORDER.compare(one.next, two.next));
+      for (Set<StubMapping> bucket : buckets) {
+        final Iterator<StubMapping> iterator = bucket.iterator();
+        if (iterator.hasNext()) {
+          heads.add(new Head(iterator));
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public StubMapping next() {
+      final Head head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+
+      final StubMapping result = head.next;
+      if (head.advance()) {
+        heads.add(head);
+      }
+      return result;
+    }
+
+    private static class Head {
+      private final Iterator<StubMapping> iterator;
+      private StubMapping next;
+
+      Head(Iterator<StubMapping> iterator) {
+        this.iterator = iterator;
+        this.next = iterator.next();
+      }
+
+      boolean advance() {
+        if (iterator.hasNext()) {
+          next = iterator.next();
+          return true;
+        }
+        return false;
+      }
+    }
+  }
+}
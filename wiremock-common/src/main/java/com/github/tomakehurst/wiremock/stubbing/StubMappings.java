@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.matching.StringValuePattern;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface StubMappings {
 
@@ -36,6 +37,11 @@ public interface StubMappings {
 
   List<StubMapping> getAll();
 
+  /** Streams the same mappings as {@link #getAll()} without copying them into a list first. */
+  default Stream<StubMapping> streamAll() {
+    return getAll().stream();
+  }
+
   Optional<StubMapping> get(UUID id);
 
   List<Scenario> getAllScenarios();
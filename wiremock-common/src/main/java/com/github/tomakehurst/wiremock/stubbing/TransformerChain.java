@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static java.util.stream.Collectors.toList;
+
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The response definition transformers that apply to a stub's response, i.e. those applied
+ * globally plus those named on the response, in registration order. Resolved once per response
+ * definition so that serving a stub doesn't have to consider every loaded transformer.
+ */
+class TransformerChain {
+
+  final ResponseDefinition source;
+  final List<ResponseDefinitionTransformer> v1Transformers;
+  final List<ResponseDefinitionTransformerV2> v2Transformers;
+
+  private TransformerChain(
+      ResponseDefinition source,
+      List<ResponseDefinitionTransformer> v1Transformers,
+      List<ResponseDefinitionTransformerV2> v2Transformers) {
+    this.source = source;
+    this.v1Transformers = v1Transformers;
+    this.v2Transformers = v2Transformers;
+  }
+
+  static TransformerChain resolve(
+      ResponseDefinition responseDefinition,
+      List<ResponseDefinitionTransformer> allV1Transformers,
+      List<ResponseDefinitionTransformerV2> allV2Transformers) {
+    return new TransformerChain(
+        responseDefinition,
+        applicableV1Transformers(responseDefinition, allV1Transformers),
+        applicableV2Transformers(responseDefinition, allV2Transformers));
+  }
+
+  static List<ResponseDefinitionTransformer> applicableV1Transformers(
+      ResponseDefinition responseDefinition, List<ResponseDefinitionTransformer> transformers) {
+    return transformers.stream()
+        .filter(
+            transformer ->
+                transformer.applyGlobally() || responseDefinition.hasTransformer(transformer))
+        .collect(toList());
+  }
+
+  static List<ResponseDefinitionTransformerV2> applicableV2Transformers(
+      ResponseDefinition responseDefinition, List<ResponseDefinitionTransformerV2> transformers) {
+    return transformers.stream()
+        .filter(
+            transformer ->
+                transformer.applyGlobally() || responseDefinition.hasTransformer(transformer))
+        .collect(toList());
+  }
+
+  /**
+   * Whether this chain still describes the given response definition, which won't be the case if
+   * a transformer has changed the transformers named on it.
+   */
+  boolean appliesTo(ResponseDefinition responseDefinition) {
+    return responseDefinition == source
+        || Objects.equals(responseDefinition.getTransformers(), source.getTransformers());
+  }
+}
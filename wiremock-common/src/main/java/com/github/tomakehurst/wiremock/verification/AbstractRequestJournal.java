@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,13 +53,17 @@ public abstract class AbstractRequestJournal implements RequestJournal {
 
   @Override
   public int countRequestsMatching(RequestPattern requestPattern) {
-    return (int) getRequests().filter(thatMatch(requestPattern, customMatchers)).count();
+    return (int) getCandidateRequestsFor(requestPattern)
+        .filter(thatMatch(requestPattern, customMatchers))
+        .count();
   }
 
   @Override
   public List<LoggedRequest> getRequestsMatching(RequestPattern requestPattern) {
     List<LoggedRequest> loggedRequests =
-        getRequests().filter(thatMatch(requestPattern, customMatchers)).collect(toList());
+        getCandidateRequestsFor(requestPattern)
+            .filter(thatMatch(requestPattern, customMatchers))
+            .collect(toList());
     Collections.reverse(loggedRequests);
     return loggedRequests;
   }
@@ -82,18 +86,22 @@ public abstract class AbstractRequestJournal implements RequestJournal {
 
   @Override
   public List<ServeEvent> removeEventsMatching(RequestPattern requestPattern) {
-    return removeServeEvents(withRequestMatching(requestPattern, customMatchers));
+    List<ServeEvent> toDelete =
+        store
+            .findCandidatesFor(requestPattern)
+            .filter(withRequestMatching(requestPattern, customMatchers))
+            .collect(toList());
+    return removeServeEvents(toDelete);
   }
 
   @Override
   public List<ServeEvent> removeServeEventsForStubsMatchingMetadata(
       StringValuePattern metadataPattern) {
-    return removeServeEvents(withStubMetadataMatching(metadataPattern));
+    return removeServeEvents(
+        store.getAll().filter(withStubMetadataMatching(metadataPattern)).collect(toList()));
   }
 
-  private List<ServeEvent> removeServeEvents(Predicate<ServeEvent> predicate) {
-    List<ServeEvent> toDelete = store.getAll().filter(predicate).collect(toList());
-
+  private List<ServeEvent> removeServeEvents(List<ServeEvent> toDelete) {
     for (ServeEvent event : toDelete) {
       store.remove(event.getId());
     }
@@ -106,6 +114,26 @@ public abstract class AbstractRequestJournal implements RequestJournal {
     return store.getAll().collect(toList());
   }
 
+  @Override
+  public List<ServeEvent> getServeEventsForStub(UUID stubMappingId) {
+    return store.getAllForStub(stubMappingId).collect(toList());
+  }
+
+  @Override
+  public Stream<ServeEvent> streamServeEvents(UUID afterId) {
+    return afterId == null ? store.getAll() : store.getAllAfter(afterId);
+  }
+
+  @Override
+  public OptionalLong getServeEventSequence(UUID id) {
+    return store.getSequence(id);
+  }
+
+  @Override
+  public Stream<ServeEvent> streamServeEventsOlderThan(long sequence) {
+    return store.getAllOlderThan(sequence);
+  }
+
   @Override
   public Optional<ServeEvent> getServeEvent(final UUID id) {
     return store.get(id);
@@ -116,13 +144,13 @@ public abstract class AbstractRequestJournal implements RequestJournal {
     store.clear();
   }
 
-  private Stream<LoggedRequest> getRequests() {
-    return store.getAll().map(ServeEvent::getRequest);
+  private Stream<LoggedRequest> getCandidateRequestsFor(RequestPattern requestPattern) {
+    return store.findCandidatesFor(requestPattern).map(ServeEvent::getRequest);
   }
 
   private void removeOldEntries() {
     if (maxEntries != null) {
-      while (store.getAllKeys().count() > maxEntries) {
+      while (store.size() > maxEntries) {
         store.removeLast();
       }
     }
@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import com.github.tomakehurst.wiremock.common.AsynchronousRequestJournalSettings;
+import com.github.tomakehurst.wiremock.common.AsynchronousRequestJournalSettings.OverflowPolicy;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Moves journal writes off the request thread. Writes are queued and applied to the wrapped journal
+ * in batches by a single background thread. Every read first flushes the queue, so verification
+ * always sees the requests that were served before it was called.
+ *
+ * <p>The background thread is started by the first write, and again by the first write after a
+ * {@link #shutdown()}, so a journal can be shut down with its server and used again on restart.
+ */
+public class AsynchronousRequestJournal implements RequestJournal {
+
+  private static final int MAX_BATCH_SIZE = 256;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final RequestJournal delegate;
+  private final BlockingQueue<JournalWrite> queue;
+  private final OverflowPolicy overflowPolicy;
+  private final Object writeLock = new Object();
+  private final LongAdder droppedWrites = new LongAdder();
+  private final Object lifecycleLock = new Object();
+
+  private volatile Thread writer;
+  private volatile boolean writerIdle = false;
+
+  public AsynchronousRequestJournal(
+      RequestJournal delegate, AsynchronousRequestJournalSettings settings) {
+    this.delegate = delegate;
+    this.queue = new ArrayBlockingQueue<>(settings.getQueueSize());
+    this.overflowPolicy = settings.getOverflowPolicy();
+  }
+
+  @Override
+  public void requestReceived(ServeEvent serveEvent) {
+    enqueue(new JournalWrite(serveEvent, true));
+  }
+
+  @Override
+  public void serveCompleted(ServeEvent serveEvent) {
+    enqueue(new JournalWrite(serveEvent, false));
+  }
+
+  private void enqueue(JournalWrite write) {
+    final Thread currentWriter = startWriterIfStopped();
+    switch (overflowPolicy) {
+      case BLOCK:
+        try {
+          queue.put(write);
+        } catch (InterruptedException e) {
+          droppedWrites.increment();
+          Thread.currentThread().interrupt();
+        }
+        break;
+      case DROP_OLDEST:
+        while (!queue.offer(write)) {
+          if (queue.poll() != null) {
+            droppedWrites.increment();
+          }
+        }
+        break;
+      case DROP_NEWEST:
+        if (!queue.offer(write)) {
+          droppedWrites.increment();
+        }
+        break;
+    }
+
+    if (writerIdle) {
+      LockSupport.unpark(currentWriter);
+    }
+  }
+
+  private Thread startWriterIfStopped() {
+    final Thread current = writer;
+    if (current != null) {
+      return current;
+    }
+
+    synchronized (lifecycleLock) {
+      if (writer == null) {
+        final Thread started =
+            new Thread(this::drainContinuously, "wiremock-request-journal-writer");
+        started.setDaemon(true);
+        writer = started;
+        started.start();
+      }
+      return writer;
+    }
+  }
+
+  /**
+   * Applies every write queued before this call to the wrapped journal. Returns once they're all
+   * visible to readers.
+   */
+  public void flush() {
+    synchronized (writeLock) {
+      // Bounded by what's queued now, so that steady traffic can't keep a reader here forever
+      applyPending(queue.size());
+    }
+  }
+
+  /** The number of writes that have been discarded because the queue was full. */
+  public long getDroppedWrites() {
+    return droppedWrites.sum();
+  }
+
+  /**
+   * Flushes outstanding writes and stops the background writer. It's started again by the next
+   * write.
+   */
+  @Override
+  public void shutdown() {
+    final Thread stopped;
+    synchronized (lifecycleLock) {
+      stopped = writer;
+      writer = null;
+    }
+
+    if (stopped != null) {
+      LockSupport.unpark(stopped);
+    }
+    flush();
+  }
+
+  private void drainContinuously() {
+    while (writer == Thread.currentThread()) {
+      try {
+        final int written;
+        synchronized (writeLock) {
+          written = applyPending(MAX_BATCH_SIZE);
+        }
+
+        if (written == 0) {
+          // Writes are only ever removed from the queue under the lock, so that a flush can't miss
+          // one that the writer is holding on to. Park rather than block on the queue instead.
+          writerIdle = true;
+          if (queue.isEmpty()) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+          }
+          writerIdle = false;
+        }
+      } catch (Exception e) {
+        notifier().error("Failed to write to the request journal", e);
+      }
+    }
+  }
+
+  private int applyPending(int maxWrites) {
+    final List<JournalWrite> batch = new ArrayList<>(Math.min(maxWrites, MAX_BATCH_SIZE));
+    int written = 0;
+    while (written < maxWrites
+        && queue.drainTo(batch, Math.min(maxWrites - written, MAX_BATCH_SIZE)) > 0) {
+      for (JournalWrite write : batch) {
+        apply(write);
+      }
+      written += batch.size();
+      batch.clear();
+    }
+    return written;
+  }
+
+  private void apply(JournalWrite write) {
+    if (write.received) {
+      delegate.requestReceived(write.serveEvent);
+    } else {
+      delegate.serveCompleted(write.serveEvent);
+    }
+  }
+
+  @Override
+  public int countRequestsMatching(RequestPattern requestPattern) {
+    flush();
+    return delegate.countRequestsMatching(requestPattern);
+  }
+
+  @Override
+  public List<LoggedRequest> getRequestsMatching(RequestPattern requestPattern) {
+    flush();
+    return delegate.getRequestsMatching(requestPattern);
+  }
+
+  @Override
+  public List<ServeEvent> getAllServeEvents() {
+    flush();
+    return delegate.getAllServeEvents();
+  }
+
+  @Override
+  public List<ServeEvent> getServeEventsForStub(UUID stubMappingId) {
+    flush();
+    return delegate.getServeEventsForStub(stubMappingId);
+  }
+
+  @Override
+  public Stream<ServeEvent> streamServeEvents(UUID afterId) {
+    flush();
+    return delegate.streamServeEvents(afterId);
+  }
+
+  @Override
+  public OptionalLong getServeEventSequence(UUID id) {
+    flush();
+    return delegate.getServeEventSequence(id);
+  }
+
+  @Override
+  public Stream<ServeEvent> streamServeEventsOlderThan(long sequence) {
+    flush();
+    return delegate.streamServeEventsOlderThan(sequence);
+  }
+
+  @Override
+  public Optional<ServeEvent> getServeEvent(UUID id) {
+    flush();
+    return delegate.getServeEvent(id);
+  }
+
+  @Override
+  public void reset() {
+    synchronized (writeLock) {
+      queue.clear();
+      delegate.reset();
+    }
+  }
+
+  @Override
+  public void removeEvent(UUID eventId) {
+    flush();
+    delegate.removeEvent(eventId);
+  }
+
+  @Override
+  public List<ServeEvent> removeEventsMatching(RequestPattern requestPattern) {
+    flush();
+    return delegate.removeEventsMatching(requestPattern);
+  }
+
+  @Override
+  public List<ServeEvent> removeServeEventsForStubsMatchingMetadata(
+      StringValuePattern metadataPattern) {
+    flush();
+    return delegate.removeServeEventsForStubsMatchingMetadata(metadataPattern);
+  }
+
+  private static class JournalWrite {
+    final ServeEvent serveEvent;
+    final boolean received;
+
+    JournalWrite(ServeEvent serveEvent, boolean received) {
+      this.serveEvent = serveEvent;
+      this.received = received;
+    }
+  }
+}
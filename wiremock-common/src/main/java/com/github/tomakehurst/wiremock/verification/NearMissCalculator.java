@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,16 +15,18 @@
  */
 package com.github.tomakehurst.wiremock.verification;
 
-import static java.lang.Math.min;
-
 import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.MemoizingMatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.*;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class NearMissCalculator {
@@ -55,20 +57,11 @@ public class NearMissCalculator {
   }
 
   public List<NearMiss> findNearestTo(final LoggedRequest request) {
-    List<StubMapping> allMappings = stubMappings.getAll();
-
-    return sortAndTruncate(
-        allMappings.stream()
-            .map(
-                stubMapping -> {
-                  MatchResult matchResult =
-                      new MemoizingMatchResult(
-                          stubMapping.getRequest().match(request, customMatchers));
-                  String actualScenarioState = getScenarioStateOrNull(stubMapping);
-                  return new NearMiss(request, stubMapping, matchResult, actualScenarioState);
-                })
-            .collect(Collectors.toList()),
-        allMappings.size());
+    return findNearest(
+        stubMappings.getAll(),
+        stubMapping -> stubMapping.getRequest().match(request, customMatchers),
+        (stubMapping, matchResult) ->
+            new NearMiss(request, stubMapping, matchResult, getScenarioStateOrNull(stubMapping)));
   }
 
   private String getScenarioStateOrNull(StubMapping stubMapping) {
@@ -81,22 +74,72 @@ public class NearMissCalculator {
   }
 
   public List<NearMiss> findNearestTo(final RequestPattern requestPattern) {
-    List<ServeEvent> serveEvents = requestJournal.getAllServeEvents();
-    return sortAndTruncate(
-        serveEvents.stream()
-            .map(
-                serveEvent -> {
-                  MatchResult matchResult =
-                      new MemoizingMatchResult(
-                          requestPattern.match(serveEvent.getRequest(), customMatchers));
-                  return new NearMiss(serveEvent.getRequest(), requestPattern, matchResult);
-                })
-            .collect(Collectors.toList()),
-        serveEvents.size());
+    return findNearest(
+        requestJournal.getAllServeEvents(),
+        serveEvent -> requestPattern.match(serveEvent.getRequest(), customMatchers),
+        (serveEvent, matchResult) ->
+            new NearMiss(serveEvent.getRequest(), requestPattern, matchResult));
+  }
+
+  /**
+   * Selects the {@link #NEAR_MISS_COUNT} closest items without sorting all of them, keeping a
+   * bounded heap of the best candidates seen so far, and only builds near misses for the items that
+   * make the cut. Ties keep the order of the input list.
+   *
+   * <p>Matching runs on the calling thread, as matchers cache parsed request content in the
+   * thread-local {@link com.github.tomakehurst.wiremock.common.RequestCache}, which is only
+   * cleared on the request thread.
+   */
+  private static <T> List<NearMiss> findNearest(
+      List<T> items,
+      Function<T, MatchResult> matcher,
+      BiFunction<T, MatchResult, NearMiss> toNearMiss) {
+    final NearestCandidates nearest = new NearestCandidates();
+    for (int i = 0; i < items.size(); i++) {
+      nearest.offer(new Candidate(i, new MemoizingMatchResult(matcher.apply(items.get(i)))));
+    }
+
+    return nearest.toSortedList().stream()
+        .map(candidate -> toNearMiss.apply(items.get(candidate.index), candidate.matchResult))
+        .collect(Collectors.toList());
+  }
+
+  private static class Candidate {
+
+    private static final Comparator<Candidate> BEST_FIRST =
+        Comparator.<Candidate>comparingDouble(candidate -> candidate.distance)
+            .thenComparingInt(candidate -> candidate.index);
+
+    final int index;
+    final MatchResult matchResult;
+    final double distance;
+
+    Candidate(int index, MatchResult matchResult) {
+      this.index = index;
+      this.matchResult = matchResult;
+      this.distance = matchResult.getDistance();
+    }
   }
 
-  private static List<NearMiss> sortAndTruncate(List<NearMiss> nearMisses, int originalSize) {
-    nearMisses.sort(NEAR_MISS_ASCENDING_COMPARATOR);
-    return nearMisses.subList(0, min(NEAR_MISS_COUNT, originalSize));
+  /** A bounded heap holding the best candidates seen so far, with the worst at its head. */
+  private static class NearestCandidates {
+
+    private final PriorityQueue<Candidate> heap =
+        new PriorityQueue<>(NEAR_MISS_COUNT + 1, Candidate.BEST_FIRST.reversed());
+
+    void offer(Candidate candidate) {
+      if (heap.size() < NEAR_MISS_COUNT) {
+        heap.add(candidate);
+      } else if (Candidate.BEST_FIRST.compare(candidate, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(candidate);
+      }
+    }
+
+    List<Candidate> toSortedList() {
+      final List<Candidate> sorted = new ArrayList<>(heap);
+      sorted.sort(Candidate.BEST_FIRST);
+      return sorted;
+    }
   }
 }
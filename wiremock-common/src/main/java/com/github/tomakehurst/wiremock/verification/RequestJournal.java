@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,12 +15,16 @@
  */
 package com.github.tomakehurst.wiremock.verification;
 
+import static java.util.stream.Collectors.toList;
+
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface RequestJournal {
 
@@ -30,6 +34,42 @@ public interface RequestJournal {
 
   List<ServeEvent> getAllServeEvents();
 
+  /** Returns the events served by the stub mapping with the given ID, newest first. */
+  default List<ServeEvent> getServeEventsForStub(UUID stubMappingId) {
+    return getAllServeEvents().stream()
+        .filter(
+            event ->
+                event.getWasMatched()
+                    && event.getStubMapping() != null
+                    && stubMappingId.equals(event.getStubMapping().getId()))
+        .collect(toList());
+  }
+
+  /**
+   * Streams the events newest first, starting with the one after the event with the given ID, or
+   * with the newest if the ID is null. Nothing is returned if there's no event with the ID.
+   */
+  default Stream<ServeEvent> streamServeEvents(UUID afterId) {
+    final Stream<ServeEvent> all = getAllServeEvents().stream();
+    return afterId == null ? all : all.dropWhile(event -> !afterId.equals(event.getId())).skip(1);
+  }
+
+  /**
+   * Returns the sequence number of the event with the given ID, or nothing if there's no event with
+   * the ID or the journal doesn't number its events.
+   */
+  default OptionalLong getServeEventSequence(UUID id) {
+    return OptionalLong.empty();
+  }
+
+  /**
+   * Streams the events logged before the one with the given sequence number, newest first, whether
+   * or not that event is still in the journal.
+   */
+  default Stream<ServeEvent> streamServeEventsOlderThan(long sequence) {
+    return getAllServeEvents().stream();
+  }
+
   Optional<ServeEvent> getServeEvent(UUID id);
 
   void reset();
@@ -43,4 +83,7 @@ public interface RequestJournal {
   List<ServeEvent> removeEventsMatching(RequestPattern requestPattern);
 
   List<ServeEvent> removeServeEventsForStubsMatchingMetadata(StringValuePattern metadataPattern);
+
+  /** Releases anything the journal holds on to, such as background threads. */
+  default void shutdown() {}
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import com.github.tomakehurst.wiremock.common.Metadata;
+import com.github.tomakehurst.wiremock.common.RequestJournalSamplingSettings;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Decides which serve events make it into the journal. Unmatched requests are always journalled.
+ * Matched requests are dropped if their stub has <code>journalRequests: false</code> in its
+ * metadata, and are otherwise sampled according to the {@link RequestJournalSamplingSettings}.
+ */
+public class SamplingRequestJournal implements RequestJournal {
+
+  public static final String JOURNAL_REQUESTS_METADATA_KEY = "journalRequests";
+
+  private static final int RATE_COUNT_BITS = 20;
+  private static final long RATE_COUNT_MASK = (1L << RATE_COUNT_BITS) - 1;
+
+  static final int MAX_REMEMBERED_DROPS = 10_000;
+
+  private final RequestJournal delegate;
+  private final int sampleEvery;
+  private final int maxPerSecond;
+  private final LongSupplier clock;
+
+  // The current second in the high bits and the number of events journalled in it in the low 20, so
+  // that both can be updated with a single compare and set.
+  private final AtomicLong rateWindow = new AtomicLong();
+
+  // Unlike sampling, the rate limit can't be decided again on completion, so the IDs it dropped are
+  // remembered until then. Bounded in case an event is never completed.
+  private final Set<UUID> droppedByRateLimit = ConcurrentHashMap.newKeySet();
+  private final Queue<UUID> dropOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger dropCount = new AtomicInteger();
+
+  public SamplingRequestJournal(RequestJournal delegate, RequestJournalSamplingSettings settings) {
+    this(delegate, settings, System::currentTimeMillis);
+  }
+
+  SamplingRequestJournal(
+      RequestJournal delegate, RequestJournalSamplingSettings settings, LongSupplier clock) {
+    if (settings.getMaxPerSecond() > RATE_COUNT_MASK) {
+      throw new IllegalArgumentException(
+          "Journal rate limit must be no more than " + RATE_COUNT_MASK + " per second");
+    }
+
+    this.delegate = delegate;
+    this.sampleEvery = settings.getSampleEvery();
+    this.maxPerSecond = settings.getMaxPerSecond();
+    this.clock = clock;
+  }
+
+  @Override
+  public void requestReceived(ServeEvent serveEvent) {
+    if (!serveEvent.getWasMatched()) {
+      delegate.requestReceived(serveEvent);
+    } else if (isJournalledByStub(serveEvent) && isSampled(serveEvent)) {
+      if (isWithinRateLimit()) {
+        delegate.requestReceived(serveEvent);
+      } else {
+        rememberDropped(serveEvent.getId());
+      }
+    }
+  }
+
+  @Override
+  public void serveCompleted(ServeEvent serveEvent) {
+    if (!serveEvent.getWasMatched()) {
+      delegate.serveCompleted(serveEvent);
+    } else if (isJournalledByStub(serveEvent)
+        && isSampled(serveEvent)
+        && !wasDropped(serveEvent.getId())) {
+      delegate.serveCompleted(serveEvent);
+    }
+  }
+
+  private void rememberDropped(UUID id) {
+    droppedByRateLimit.add(id);
+    dropOrder.add(id);
+    if (dropCount.incrementAndGet() > MAX_REMEMBERED_DROPS) {
+      final UUID eldest = dropOrder.poll();
+      if (eldest != null) {
+        droppedByRateLimit.remove(eldest);
+        dropCount.decrementAndGet();
+      }
+    }
+  }
+
+  private boolean wasDropped(UUID id) {
+    return maxPerSecond != RequestJournalSamplingSettings.UNLIMITED_PER_SECOND
+        && droppedByRateLimit.remove(id);
+  }
+
+  private static boolean isJournalledByStub(ServeEvent serveEvent) {
+    final StubMapping stub = serveEvent.getStubMapping();
+    final Metadata metadata = stub != null ? stub.getMetadata() : null;
+    return metadata == null || metadata.getBoolean(JOURNAL_REQUESTS_METADATA_KEY, true);
+  }
+
+  // Sampling on the event ID rather than a counter needs no shared state, and gives the same answer
+  // when the event is completed as when it was received.
+  private boolean isSampled(ServeEvent serveEvent) {
+    return sampleEvery == 1 || Math.floorMod(serveEvent.getId().hashCode(), sampleEvery) == 0;
+  }
+
+  private boolean isWithinRateLimit() {
+    if (maxPerSecond == RequestJournalSamplingSettings.UNLIMITED_PER_SECOND) {
+      return true;
+    }
+
+    final long second = clock.getAsLong() / 1000;
+    while (true) {
+      final long current = rateWindow.get();
+      final long currentSecond = current >>> RATE_COUNT_BITS;
+      final long count = currentSecond == second ? current & RATE_COUNT_MASK : 0;
+      if (count >= maxPerSecond) {
+        return false;
+      }
+
+      if (rateWindow.compareAndSet(current, (second << RATE_COUNT_BITS) | (count + 1))) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public int countRequestsMatching(RequestPattern requestPattern) {
+    return delegate.countRequestsMatching(requestPattern);
+  }
+
+  @Override
+  public List<LoggedRequest> getRequestsMatching(RequestPattern requestPattern) {
+    return delegate.getRequestsMatching(requestPattern);
+  }
+
+  @Override
+  public List<ServeEvent> getAllServeEvents() {
+    return delegate.getAllServeEvents();
+  }
+
+  @Override
+  public List<ServeEvent> getServeEventsForStub(UUID stubMappingId) {
+    return delegate.getServeEventsForStub(stubMappingId);
+  }
+
+  @Override
+  public Stream<ServeEvent> streamServeEvents(UUID afterId) {
+    return delegate.streamServeEvents(afterId);
+  }
+
+  @Override
+  public OptionalLong getServeEventSequence(UUID id) {
+    return delegate.getServeEventSequence(id);
+  }
+
+  @Override
+  public Stream<ServeEvent> streamServeEventsOlderThan(long sequence) {
+    return delegate.streamServeEventsOlderThan(sequence);
+  }
+
+  @Override
+  public Optional<ServeEvent> getServeEvent(UUID id) {
+    return delegate.getServeEvent(id);
+  }
+
+  @Override
+  public void reset() {
+    delegate.reset();
+  }
+
+  @Override
+  public void removeEvent(UUID eventId) {
+    delegate.removeEvent(eventId);
+  }
+
+  @Override
+  public List<ServeEvent> removeEventsMatching(RequestPattern requestPattern) {
+    return delegate.removeEventsMatching(requestPattern);
+  }
+
+  @Override
+  public List<ServeEvent> removeServeEventsForStubsMatchingMetadata(
+      StringValuePattern metadataPattern) {
+    return delegate.removeServeEventsForStubsMatchingMetadata(metadataPattern);
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+}
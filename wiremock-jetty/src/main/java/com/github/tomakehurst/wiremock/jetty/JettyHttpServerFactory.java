@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.common.JettySettings;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.http.*;
 import com.github.tomakehurst.wiremock.jetty12.Jetty12HttpServer;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 
 public class JettyHttpServerFactory implements HttpServerFactory, DefaultFactory {
@@ -47,6 +48,24 @@ public class JettyHttpServerFactory implements HttpServerFactory, DefaultFactory
         adminRequestHandler,
         stubRequestHandler,
         settings,
-        new QueuedThreadPool(options.containerThreads()));
+        createThreadPool(options));
+  }
+
+  private static QueuedThreadPool createThreadPool(Options options) {
+    final QueuedThreadPool threadPool = new QueuedThreadPool(options.containerThreads());
+    if (options.getVirtualThreadsEnabled()) {
+      if (VirtualThreads.areSupported()) {
+        threadPool.setVirtualThreadsExecutor(
+            VirtualThreads.getNamedVirtualThreadsExecutor("wiremock-virtual-"));
+      } else {
+        options
+            .notifier()
+            .error(
+                "Virtual threads were requested but aren't supported by this JVM, "
+                    + "so requests will be handled on container threads");
+      }
+    }
+
+    return threadPool;
   }
 }
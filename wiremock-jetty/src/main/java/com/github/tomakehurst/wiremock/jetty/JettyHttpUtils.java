@@ -15,10 +15,14 @@
  */
 package com.github.tomakehurst.wiremock.jetty;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import org.eclipse.jetty.io.EndPoint;
 import org.eclipse.jetty.server.Response;
 
@@ -91,4 +95,19 @@ public interface JettyHttpUtils {
    * @return {@code true} if is a request isbrowser proxy request, {@code false} otherwise
    */
   boolean isBrowserProxyRequest(HttpServletRequest request);
+
+  /**
+   * Writes the buffer to the response, without copying it through a byte array where the Jetty
+   * version allows
+   *
+   * @param content buffer to write from its position to its limit
+   * @param out the response's {@link ServletOutputStream}
+   */
+  default void write(ByteBuffer content, ServletOutputStream out) throws IOException {
+    if (content.hasArray()) {
+      out.write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+    } else {
+      Channels.newChannel(out).write(content);
+    }
+  }
 }
@@ -20,9 +20,11 @@ import static com.github.tomakehurst.wiremock.core.WireMockApp.ADMIN_CONTEXT_ROO
 import static com.github.tomakehurst.wiremock.jetty11.Jetty11Utils.createHttpConfig;
 import static com.github.tomakehurst.wiremock.jetty11.SslContexts.buildManInTheMiddleSslContextFactory;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 import com.github.tomakehurst.wiremock.common.AsynchronousResponseSettings;
 import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.HashedWheelScheduler;
 import com.github.tomakehurst.wiremock.common.HttpsSettings;
 import com.github.tomakehurst.wiremock.common.JettySettings;
 import com.github.tomakehurst.wiremock.common.Notifier;
@@ -43,6 +45,7 @@ import com.github.tomakehurst.wiremock.servlet.TrailingSlashFilter;
 import com.github.tomakehurst.wiremock.servlet.WireMockHandlerDispatchingServlet;
 import jakarta.servlet.DispatcherType;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Stream;
 import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.ee10.servlet.*;
@@ -63,6 +66,8 @@ import org.eclipse.jetty.util.thread.ThreadPool;
 
 public class Jetty12HttpServer extends JettyHttpServer {
 
+  private static final long TIMER_METRICS_LOG_INTERVAL_SECONDS = 60;
+
   private ServerConnector mitmProxyConnector;
 
   public Jetty12HttpServer(
@@ -345,10 +350,18 @@ public class Jetty12HttpServer extends JettyHttpServer {
         WireMockHandlerDispatchingServlet.SHOULD_FORWARD_TO_FILES_CONTEXT, "true");
 
     if (asynchronousResponseSettings.isEnabled()) {
-      scheduledExecutorService = newScheduledThreadPool(asynchronousResponseSettings.getThreads());
+      scheduledExecutorService =
+          asynchronousResponseSettings.isTimerWheelEnabled()
+              ? new HashedWheelScheduler(
+                  asynchronousResponseSettings.getTimerTickMillis(),
+                  asynchronousResponseSettings.getThreads())
+              : newScheduledThreadPool(asynchronousResponseSettings.getThreads());
       mockServiceContext.setAttribute(
           WireMockHandlerDispatchingServlet.ASYNCHRONOUS_RESPONSE_EXECUTOR,
           scheduledExecutorService);
+      if (scheduledExecutorService instanceof HashedWheelScheduler) {
+        logTimerMetricsPeriodically((HashedWheelScheduler) scheduledExecutorService, notifier);
+      }
     }
 
     servletHolder.getRegistration().setMultipartConfig(buildMultipartRequestConfigurer().build());
@@ -416,4 +429,25 @@ public class Jetty12HttpServer extends JettyHttpServer {
             "OPTIONS,GET,POST,PUT,PATCH,DELETE"));
     return filterHolder;
   }
+
+  // Reschedules itself on the wheel rather than needing a thread of its own, until the server stops
+  private static void logTimerMetricsPeriodically(
+      HashedWheelScheduler scheduler, Notifier notifier) {
+    try {
+      scheduler.schedule(
+          () -> {
+            notifier.info(
+                String.format(
+                    "Asynchronous response timers: %d pending, mean lag %.1fms, max lag %dms",
+                    scheduler.getPendingTimers(),
+                    scheduler.getMeanScheduleLagMillis(),
+                    scheduler.getMaxScheduleLagMillis()));
+            logTimerMetricsPeriodically(scheduler, notifier);
+          },
+          TIMER_METRICS_LOG_INTERVAL_SECONDS,
+          SECONDS);
+    } catch (RejectedExecutionException ignored) {
+      // The server has stopped
+    }
+  }
 }
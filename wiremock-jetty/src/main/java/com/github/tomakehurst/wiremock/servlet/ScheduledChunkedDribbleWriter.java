@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.servlet;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.github.tomakehurst.wiremock.common.Notifier;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Writes a chunked dribble delayed body using non-blocking servlet output. Each chunk is written by
+ * a task on the scheduler once it's due, and if the client isn't ready for it yet, by the container
+ * when it becomes ready. No thread is held between chunks, and the async context is completed once
+ * the last chunk has been flushed or the write fails.
+ */
+class ScheduledChunkedDribbleWriter implements WriteListener {
+
+  private final AsyncContext asyncContext;
+  private final ServletOutputStream out;
+  private final byte[][] chunks;
+  private final long chunkIntervalNanos;
+  private final ScheduledExecutorService scheduler;
+  private final Notifier notifier;
+
+  private int nextChunk;
+  private long nextChunkDueNanos;
+  private boolean flushPending;
+  private boolean finished;
+
+  ScheduledChunkedDribbleWriter(
+      AsyncContext asyncContext,
+      ServletOutputStream out,
+      byte[][] chunks,
+      long chunkIntervalMillis,
+      ScheduledExecutorService scheduler,
+      Notifier notifier) {
+    this.asyncContext = asyncContext;
+    this.out = out;
+    this.chunks = chunks;
+    this.chunkIntervalNanos = MILLISECONDS.toNanos(chunkIntervalMillis);
+    this.scheduler = scheduler;
+    this.notifier = notifier;
+  }
+
+  void start() {
+    synchronized (this) {
+      nextChunkDueNanos = System.nanoTime() + chunkIntervalNanos;
+    }
+
+    // The container calls onWritePossible once the listener is set
+    out.setWriteListener(this);
+  }
+
+  @Override
+  public synchronized void onWritePossible() throws IOException {
+    // Only ever called by the container after isReady() has returned false, and a chunk is only
+    // scheduled after it returned true, so the two never write at the same time. The lock just
+    // makes the state changes visible across threads.
+    writeWhileReady();
+  }
+
+  @Override
+  public synchronized void onError(Throwable t) {
+    // Most likely the client giving up part way through, which is a valid outcome
+    finish();
+  }
+
+  private synchronized void writeScheduledChunk() {
+    try {
+      writeWhileReady();
+    } catch (IOException | RuntimeException e) {
+      notifier.error("Failed to write chunked dribble delayed response", e);
+      finish();
+    }
+  }
+
+  private void writeWhileReady() throws IOException {
+    while (!finished && out.isReady()) {
+      if (flushPending) {
+        flushPending = false;
+        out.flush();
+        continue;
+      }
+
+      if (nextChunk == chunks.length) {
+        finish();
+        return;
+      }
+
+      final long waitNanos = nextChunkDueNanos - System.nanoTime();
+      if (waitNanos > 0) {
+        scheduler.schedule(this::writeScheduledChunk, waitNanos, NANOSECONDS);
+        return;
+      }
+
+      out.write(chunks[nextChunk++]);
+      flushPending = true;
+      nextChunkDueNanos = System.nanoTime() + chunkIntervalNanos;
+    }
+  }
+
+  private void finish() {
+    if (!finished) {
+      finished = true;
+      asyncContext.complete();
+    }
+  }
+}
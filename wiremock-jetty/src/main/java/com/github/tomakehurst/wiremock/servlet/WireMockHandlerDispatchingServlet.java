@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,13 +23,18 @@ import static com.github.tomakehurst.wiremock.core.Options.ChunkedEncodingPolicy
 import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
 import static com.github.tomakehurst.wiremock.servlet.WireMockHttpServletRequestAdapter.ORIGINAL_REQUEST_KEY;
 import static com.github.tomakehurst.wiremock.stubbing.ServeEvent.ORIGINAL_SERVE_EVENT_KEY;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.URLDecoder.decode;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
 import com.github.tomakehurst.wiremock.common.LocalNotifier;
 import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.common.StreamSources;
+import com.github.tomakehurst.wiremock.common.StreamSources.ByteBufferInputStreamSource;
+import com.github.tomakehurst.wiremock.common.StreamSources.WritableStreamSource;
 import com.github.tomakehurst.wiremock.core.FaultInjector;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.core.WireMockApp;
@@ -41,10 +46,13 @@ import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 
 public class WireMockHandlerDispatchingServlet extends HttpServlet {
@@ -162,16 +170,46 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     private final HttpServletRequest httpServletRequest;
     private final HttpServletResponse httpServletResponse;
 
+    private AsyncContext asyncContext;
+    private volatile boolean responding;
+
     public ServletHttpResponder(
         HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
       this.httpServletRequest = httpServletRequest;
       this.httpServletResponse = httpServletResponse;
     }
 
+    @Override
+    public Executor startAsync() {
+      if (!httpServletRequest.isAsyncSupported()) {
+        return null;
+      }
+
+      asyncContext = httpServletRequest.startAsync();
+      return asyncContext::start;
+    }
+
+    @Override
+    public void abortAsync() {
+      if (asyncContext == null || responding) {
+        return;
+      }
+
+      try {
+        if (!httpServletResponse.isCommitted()) {
+          httpServletResponse.setStatus(HTTP_INTERNAL_ERROR);
+        }
+      } finally {
+        asyncContext.complete();
+      }
+    }
+
     @Override
     public void respond(
         final Request request, final Response response, Map<String, Object> attributes) {
+      responding = true;
       if (Thread.currentThread().isInterrupted()) {
+        completeIfAsync();
         return;
       }
 
@@ -180,11 +218,23 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
 
       if (isAsyncSupportedAndDelayConfigured(response, httpServletRequest)) {
         respondAsync(request, response);
+      } else if (asyncContext != null) {
+        try {
+          respondSync(request, response);
+        } finally {
+          asyncContext.complete();
+        }
       } else {
         respondSync(request, response);
       }
     }
 
+    private void completeIfAsync() {
+      if (asyncContext != null) {
+        asyncContext.complete();
+      }
+    }
+
     private void respondSync(Request request, Response response) {
       delayIfRequired(response.getInitialDelay());
       respondTo(request, response);
@@ -208,13 +258,17 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
 
     private void respondAsync(final Request request, final Response response) {
-      final AsyncContext asyncContext = httpServletRequest.startAsync();
+      final AsyncContext asyncContext =
+          this.asyncContext != null ? this.asyncContext : httpServletRequest.startAsync();
       scheduledExecutorService.schedule(
           () -> {
+            boolean stillWriting = false;
             try {
-              respondTo(request, response);
+              stillWriting = respondTo(request, response, asyncContext);
             } finally {
-              asyncContext.complete();
+              if (!stillWriting) {
+                asyncContext.complete();
+              }
             }
           },
           response.getInitialDelay(),
@@ -222,9 +276,18 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
 
     private void respondTo(Request request, Response response) {
+      respondTo(request, response, null);
+    }
+
+    /**
+     * @param asyncContext if set, a dribble delayed body is written without blocking
+     * @return whether the body is still being written, in which case the writer completes the async
+     *     context when it's done
+     */
+    private boolean respondTo(Request request, Response response, AsyncContext asyncContext) {
       try {
         if (response.wasConfigured()) {
-          applyResponse(response, httpServletRequest, httpServletResponse);
+          return applyResponse(response, httpServletRequest, httpServletResponse, asyncContext);
         } else if (request.getMethod().equals(GET) && shouldForwardToFilesContext) {
           forwardToFilesContext(httpServletRequest, httpServletResponse, request);
         } else {
@@ -233,6 +296,8 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       } catch (Exception e) {
         throwUnchecked(e);
       }
+
+      return false;
     }
   }
 
@@ -240,12 +305,21 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       Response response,
       HttpServletRequest httpServletRequest,
       HttpServletResponse httpServletResponse) {
+    applyResponse(response, httpServletRequest, httpServletResponse, null);
+  }
+
+  private boolean applyResponse(
+      Response response,
+      HttpServletRequest httpServletRequest,
+      HttpServletResponse httpServletResponse,
+      AsyncContext asyncContext) {
     Fault fault = response.getFault();
     if (fault != null) {
       FaultInjector faultInjector = buildFaultInjector(httpServletRequest, httpServletResponse);
       fault.apply(faultInjector);
       httpServletResponse.addHeader(Fault.class.getName(), fault.name());
-      return;
+      releaseUnsentBody(response);
+      return false;
     }
 
     if (response.getStatusMessage() == null) {
@@ -261,17 +335,58 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       }
     }
 
+    InputStreamSource bodySource = response.getBodyStreamSource();
+    final ByteBufferInputStreamSource bufferedBody =
+        bodySource instanceof ByteBufferInputStreamSource
+            ? (ByteBufferInputStreamSource) bodySource
+            : null;
+
+    WritableStreamSource writableBody =
+        bodySource instanceof WritableStreamSource ? (WritableStreamSource) bodySource : null;
+
     if ((chunkedEncodingPolicy == NEVER
             || (chunkedEncodingPolicy == BODY_FILE && response.hasInlineBody()))
         && httpServletResponse.getHeader(CONTENT_LENGTH) == null) {
-      httpServletResponse.setContentLength(response.getBody().length);
+      if (writableBody != null) {
+        // Generated bodies may differ each time, so the content sent has to be the content measured
+        final byte[] body = response.getBody();
+        httpServletResponse.setContentLength(body.length);
+        writableBody = null;
+        bodySource = StreamSources.forBytes(body);
+      } else {
+        httpServletResponse.setContentLength(
+            bufferedBody != null ? bufferedBody.getLength() : response.getBody().length);
+      }
     }
 
-    if (response.shouldAddChunkedDribbleDelay()) {
+    if (response.shouldAddChunkedDribbleDelay() && asyncContext != null) {
+      return writeWithScheduledChunkedDribbleDelay(
+          asyncContext,
+          httpServletResponse,
+          bodySource.getStream(),
+          response.getChunkedDribbleDelay());
+    } else if (response.shouldAddChunkedDribbleDelay()) {
       writeAndTranslateExceptionsWithChunkedDribbleDelay(
-          httpServletResponse, response.getBodyStream(), response.getChunkedDribbleDelay());
+          httpServletResponse, bodySource.getStream(), response.getChunkedDribbleDelay());
+    } else if (bufferedBody != null) {
+      writeAndTranslateExceptions(httpServletResponse, bufferedBody.getByteBuffer());
+    } else if (writableBody != null) {
+      writeAndTranslateExceptions(httpServletResponse, writableBody);
     } else {
-      writeAndTranslateExceptions(httpServletResponse, response.getBodyStream());
+      writeAndTranslateExceptions(httpServletResponse, bodySource.getStream());
+    }
+
+    return false;
+  }
+
+  // Proxied bodies may still be attached to an upstream connection, which has to be given back
+  private static void releaseUnsentBody(Response response) {
+    if (response.getBodyStreamSource() instanceof Closeable) {
+      try {
+        ((Closeable) response.getBodyStreamSource()).close();
+      } catch (IOException e) {
+        // nothing more can be done with it
+      }
     }
   }
 
@@ -296,6 +411,56 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
   }
 
+  private void writeAndTranslateExceptions(
+      HttpServletResponse httpServletResponse, ByteBuffer content) {
+    try (ServletOutputStream out = httpServletResponse.getOutputStream()) {
+      utils.write(content, out);
+      out.flush();
+    } catch (IOException e) {
+      throwUnchecked(e);
+    }
+  }
+
+  private static void writeAndTranslateExceptions(
+      HttpServletResponse httpServletResponse, WritableStreamSource content) {
+    try (ServletOutputStream out = httpServletResponse.getOutputStream()) {
+      content.writeTo(out);
+      out.flush();
+    } catch (IOException e) {
+      throwUnchecked(e);
+    }
+  }
+
+  private boolean writeWithScheduledChunkedDribbleDelay(
+      AsyncContext asyncContext,
+      HttpServletResponse httpServletResponse,
+      InputStream bodyStream,
+      ChunkedDribbleDelay chunkedDribbleDelay) {
+    try {
+      byte[] body = bodyStream.readAllBytes();
+
+      if (body.length < 1) {
+        notifier.error("Cannot chunk dribble delay when no body set");
+        return false;
+      }
+
+      byte[][] chunkedBody = BodyChunker.chunkBody(body, chunkedDribbleDelay.getNumberOfChunks());
+      int chunkInterval = chunkedDribbleDelay.getTotalDuration() / chunkedBody.length;
+
+      new ScheduledChunkedDribbleWriter(
+              asyncContext,
+              httpServletResponse.getOutputStream(),
+              chunkedBody,
+              chunkInterval,
+              scheduledExecutorService,
+              notifier)
+          .start();
+      return true;
+    } catch (IOException e) {
+      return throwUnchecked(e, Boolean.class);
+    }
+  }
+
   private void writeAndTranslateExceptionsWithChunkedDribbleDelay(
       HttpServletResponse httpServletResponse,
       InputStream bodyStream,
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,7 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
   private final HttpServletRequest request;
   private byte[] cachedBody;
+  private String cachedBodyAsString;
   private final Supplier<Map<String, QueryParameter>> cachedQueryParams;
 
   private final Map<String, FormParameter> cachedFormParameters;
@@ -153,7 +154,13 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
   @Override
   public String getBodyAsString() {
-    return stringFromBytes(getBody(), encodingFromContentTypeHeaderOrUtf8());
+    // Decoded once, so that every body pattern sees the same string and per-request parse caches
+    // keyed on it don't have to compare a fresh copy each time
+    if (cachedBodyAsString == null) {
+      cachedBodyAsString = stringFromBytes(getBody(), encodingFromContentTypeHeaderOrUtf8());
+    }
+
+    return cachedBodyAsString;
   }
 
   @Override